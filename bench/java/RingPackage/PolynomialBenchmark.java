@@ -0,0 +1,103 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Vidyut Veedgav
+ * a JMH benchmark for the arithmetic of two polynomials over the IntegerRing
+ * the parameters sweep the degree, the share of non-zero coefficients and the relative operand sizes,
+ * so throughput can be compared across sizes to see how each operation scales
+ * run it with "ant bench", which also attaches the GC profiler for allocation rates
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PolynomialBenchmark {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int degree; //the degree of the longer operand
+
+    @Param({"dense", "sparse"})
+    public String density; //dense operands have no zero coefficients, sparse ones about 1 in 100 non-zero
+
+    @Param({"balanced", "unbalanced"})
+    public String shape; //balanced operands have the same degree, unbalanced ones a tenth of it
+
+    private final Ring<Integer> ring = new IntegerRing(); //the ring of the coefficients
+    private final PolynomialRing<Integer> polynomialRing = PolynomialRing.instance(ring); //the ring of the polynomials
+
+    private WorkingPolynomial<Integer> a; //the longer operand
+    private WorkingPolynomial<Integer> b; //the other operand
+
+    /**
+     * a method to build the operands once per parameter combination, from a fixed seed
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(293);
+        a = randomPolynomial(degree, random);
+        b = randomPolynomial("balanced".equals(shape) ? degree : Math.max(1, degree / 10), random);
+    }
+
+    /**
+     * benchmarking WorkingPolynomial.plus
+     */
+    @Benchmark
+    public WorkingPolynomial<Integer> plus() {
+        return a.plus(b, ring);
+    }
+
+    /**
+     * benchmarking the generic WorkingPolynomial.times
+     */
+    @Benchmark
+    public WorkingPolynomial<Integer> times() {
+        return a.times(b, ring);
+    }
+
+    /**
+     * benchmarking PolynomialRing.sum over the IntegerRing
+     */
+    @Benchmark
+    public WorkingPolynomial<Integer> ringSum() {
+        return polynomialRing.sum(a, b);
+    }
+
+    /**
+     * benchmarking PolynomialRing.product over the IntegerRing, which takes the primitive path
+     */
+    @Benchmark
+    public WorkingPolynomial<Integer> ringProduct() {
+        return polynomialRing.product(a, b);
+    }
+
+    /**
+     * a helper method to build a polynomial with the configured density
+     */
+    private WorkingPolynomial<Integer> randomPolynomial(int polynomialDegree, Random random) {
+        List<Integer> coefficients = new ArrayList<>(polynomialDegree + 1);
+        for (int i = 0; i <= polynomialDegree; i++) {
+            boolean nonZero = "dense".equals(density) || random.nextInt(100) == 0 || i == polynomialDegree;
+            coefficients.add(nonZero ? random.nextInt(2001) - 1000 : 0);
+        }
+        return WorkingPolynomial.from(coefficients);
+    }
+}
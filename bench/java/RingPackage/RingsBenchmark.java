@@ -0,0 +1,105 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Vidyut Veedgav
+ * a JMH benchmark for reducing many polynomials over the IntegerRing with Rings.sum and Rings.product
+ * the sum reduces count polynomials of the given degree, the product reduces degree linear factors,
+ * so each benchmark has its own state and only runs over the parameters it uses
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingsBenchmark {
+
+    private static final PolynomialRing<Integer> POLYNOMIAL_RING = PolynomialRing.instance(new IntegerRing()); //the ring of the polynomials
+
+    /**
+     * the operands of the sum benchmark
+     */
+    @State(Scope.Benchmark)
+    public static class Summands {
+
+        @Param({"10", "100", "1000", "10000", "100000"})
+        public int degree; //the degree of every summand
+
+        @Param({"10", "100"})
+        public int count; //the number of summands
+
+        private List<WorkingPolynomial<Integer>> summands; //the polynomials being summed
+
+        /**
+         * a method to build the summands once per parameter combination, from a fixed seed
+         */
+        @Setup
+        public void setUp() {
+            Random random = new Random(293);
+            summands = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                List<Integer> coefficients = new ArrayList<>(degree + 1);
+                for (int j = 0; j <= degree; j++) {
+                    coefficients.add(random.nextInt(2001) - 1000);
+                }
+                summands.add(WorkingPolynomial.from(coefficients));
+            }
+        }
+    }
+
+    /**
+     * the operands of the product benchmark
+     */
+    @State(Scope.Benchmark)
+    public static class Factors {
+
+        @Param({"10", "100", "1000", "10000", "100000"})
+        public int degree; //the number of linear factors, and so the degree of the product
+
+        private List<WorkingPolynomial<Integer>> factors; //the linear factors being multiplied
+
+        /**
+         * a method to build the factors once per parameter value, from a fixed seed
+         */
+        @Setup
+        public void setUp() {
+            Random random = new Random(293);
+            factors = new ArrayList<>(degree);
+            for (int i = 0; i < degree; i++) {
+                factors.add(WorkingPolynomial.from(List.of(random.nextInt(21) - 10, 1)));
+            }
+        }
+    }
+
+    /**
+     * benchmarking Rings.sum over the polynomials
+     */
+    @Benchmark
+    public WorkingPolynomial<Integer> sum(Summands state) {
+        return Rings.sum(state.summands, POLYNOMIAL_RING);
+    }
+
+    /**
+     * benchmarking Rings.product over the linear factors
+     */
+    @Benchmark
+    public WorkingPolynomial<Integer> product(Factors state) {
+        return Rings.product(state.factors, POLYNOMIAL_RING);
+    }
+}
@@ -0,0 +1,443 @@
+package RingPackage;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class to demonstrate the concept of Rings on integers of any size, computing with longs while they fit
+ * every operation first runs on longs with exact arithmetic and only switches to BigInteger when that overflows,
+ * so results are always correct but the common case never pays for arbitrary precision
+ * results are kept canonical: a Long whenever the value fits in a long, a BigInteger otherwise
+ */
+public final class AdaptiveIntegerRing implements Ring<Number> {
+
+    private static final int LONG_PRODUCT_THRESHOLD = 32; //the operand size below which a product that may overflow still tries longs
+    private static final int LONG_KARATSUBA_THRESHOLD = 32; //the operand size from which long products switch to Karatsuba
+
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    /**
+     * a method to return the canonical form of an integer
+     * @param value the integer
+     * @return a Long if the value fits in a long, otherwise the value itself
+     */
+    public static Number valueOf(BigInteger value) {
+        //null check
+        Objects.requireNonNull(value, "value cannot be null");
+
+        if (value.compareTo(LONG_MIN) >= 0 && value.compareTo(LONG_MAX) <= 0) {
+            return value.longValue();
+        }
+        return value;
+    }
+
+    /**
+     * overriding the zero method
+     */
+    @Override
+    public Number zero() {
+        return 0L;
+    }
+
+    /**
+     * overriding the identity method
+     */
+    @Override
+    public Number identity() {
+        return 1L;
+    }
+
+    /**
+     * overriding the sum method
+     */
+    @Override
+    public Number sum(Number x, Number y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        if (isSmall(x) && isSmall(y)) {
+            try {
+                return Math.addExact(x.longValue(), y.longValue());
+            } catch (ArithmeticException overflow) {
+                //promoting this sum only
+            }
+        }
+        return valueOf(big(x).add(big(y)));
+    }
+
+    /**
+     * overriding the product method
+     */
+    @Override
+    public Number product(Number x, Number y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        if (isSmall(x) && isSmall(y)) {
+            try {
+                return Math.multiplyExact(x.longValue(), y.longValue());
+            } catch (ArithmeticException overflow) {
+                //promoting this product only
+            }
+        }
+        return valueOf(big(x).multiply(big(y)));
+    }
+
+    /**
+     * overriding the isZero method, zero being a Long, an Integer or a BigInteger alike
+     */
+    @Override
+    public boolean isZero(Number x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return isSmall(x) ? x.longValue() == 0 : big(x).signum() == 0;
+    }
+
+    /**
+     * overriding the hasNegation method
+     */
+    @Override
+    public boolean hasNegation() {
+        return true;
+    }
+
+    /**
+     * overriding the negate method
+     */
+    @Override
+    public Number negate(Number x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        if (isSmall(x) && x.longValue() != Long.MIN_VALUE) {
+            return -x.longValue();
+        }
+        return valueOf(big(x).negate());
+    }
+
+    /**
+     * overriding the inverse method, only 1 and -1 are invertible in the integers
+     */
+    @Override
+    public Number inverse(Number x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        if (!isSmall(x) || Math.abs(x.longValue()) != 1) {
+            throw new ArithmeticException(x + " has no inverse in the integers");
+        }
+        return x.longValue();
+    }
+
+    /**
+     * overriding the multiplyAdd method, staying on longs unless the product or the sum overflows
+     */
+    @Override
+    public Number multiplyAdd(Number accumulator, Number x, Number y) {
+        //null checks
+        Objects.requireNonNull(accumulator, "accumulator cannot be null");
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        if (isSmall(accumulator) && isSmall(x) && isSmall(y)) {
+            try {
+                return Math.addExact(accumulator.longValue(), Math.multiplyExact(x.longValue(), y.longValue()));
+            } catch (ArithmeticException overflow) {
+                //promoting this step only
+            }
+        }
+        return valueOf(big(accumulator).add(big(x).multiply(big(y))));
+    }
+
+    /**
+     * overriding the dot method, accumulating in a primitive long until a term or the running sum overflows
+     * from then on the rest of the terms are accumulated in a BigInteger
+     */
+    @Override
+    public Number dot(List<Number> x, int xFrom, List<Number> y, int yFrom, int length) {
+        long result = 0;
+        int i = 0;
+        try {
+            for (; i < length; i++) {
+                Number a = x.get(xFrom + i);
+                Number b = y.get(yFrom + i);
+                if (!isSmall(a) || !isSmall(b)) {
+                    break;
+                }
+                result = Math.addExact(result, Math.multiplyExact(a.longValue(), b.longValue()));
+            }
+        } catch (ArithmeticException overflow) {
+            //the term at i was not added, the big accumulator picks it up
+        }
+        if (i == length) {
+            return result;
+        }
+
+        BigInteger bigResult = BigInteger.valueOf(result);
+        for (; i < length; i++) {
+            bigResult = bigResult.add(big(x.get(xFrom + i)).multiply(big(y.get(yFrom + i))));
+        }
+        return valueOf(bigResult);
+    }
+
+    /**
+     * overriding the polynomialProduct method
+     * products of long coefficients whose bound max|a| * max|b| * min(n, m) fits in a long run on primitive longs at
+     * every size, with Karatsuba's algorithm from LONG_KARATSUBA_THRESHOLD on
+     * when the bound does not fit, small products still try exact long arithmetic, and an overflow, or a coefficient
+     * already held in a BigInteger, promotes the whole product to a Kronecker substitution on BigIntegers
+     */
+    @Override
+    public WorkingPolynomial<Number> polynomialProduct(WorkingPolynomial<Number> x, WorkingPolynomial<Number> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        if (x.degree() < 0 || y.degree() < 0) {
+            return x.times(y, this);
+        }
+        long[] a = toLongs(x.coefficientView());
+        long[] b = toLongs(y.coefficientView());
+        if (a != null && b != null) {
+            if (fitsInLong(a, b)) {
+                return WorkingPolynomial.wrap(box(karatsuba(a, b)));
+            }
+            if (Math.min(a.length, b.length) < LONG_PRODUCT_THRESHOLD) {
+                try {
+                    return WorkingPolynomial.wrap(box(schoolbookExact(a, b)));
+                } catch (ArithmeticException overflow) {
+                    //promoting the whole product
+                }
+            }
+        }
+
+        BigInteger[] product = KroneckerSubstitution.multiply(toBigs(x.coefficientView()), toBigs(y.coefficientView()));
+        List<Number> coefficients = new ArrayList<>(product.length);
+        for (BigInteger coefficient : product) {
+            coefficients.add(valueOf(coefficient));
+        }
+        return WorkingPolynomial.wrap(coefficients);
+    }
+
+    /**
+     * overriding the polynomialAlgorithm method
+     * this names the long algorithm; a product that may overflow is redone as a Kronecker substitution,
+     * which depends on the coefficients and is not known from the lengths alone
+     */
+    @Override
+    public String polynomialAlgorithm(int xLength, int yLength) {
+        if (Math.min(xLength, yLength) == 0) {
+            return Ring.super.polynomialAlgorithm(xLength, yLength);
+        }
+        return (Math.min(xLength, yLength) < LONG_KARATSUBA_THRESHOLD) ? "long-schoolbook" : "long-karatsuba";
+    }
+
+    /**
+     * overriding the polynomialSquare method
+     * squares take the same path as products, longs first and a Kronecker substitution on overflow
+     */
+    @Override
+    public WorkingPolynomial<Number> polynomialSquare(WorkingPolynomial<Number> x) {
+        return polynomialProduct(x, x);
+    }
+
+    /**
+     * a helper method to multiply two long arrays, throwing an ArithmeticException on overflow
+     */
+    private static long[] schoolbookExact(long[] a, long[] b) {
+        long[] product = new long[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) {
+                continue;
+            }
+            for (int j = 0; j < b.length; j++) {
+                product[i + j] = Math.addExact(product[i + j], Math.multiplyExact(a[i], b[j]));
+            }
+        }
+        return product;
+    }
+
+    /**
+     * a helper method to tell whether max|a| * max|b| * min(a.length, b.length) fits in a long
+     * every coefficient of the product is then at most that bound, so long arithmetic cannot overflow the result
+     */
+    private static boolean fitsInLong(long[] a, long[] b) {
+        try {
+            Math.multiplyExact(Math.multiplyExact(maxAbs(a), maxAbs(b)), (long) Math.min(a.length, b.length));
+            return true;
+        } catch (ArithmeticException overflow) {
+            return false;
+        }
+    }
+
+    /**
+     * a helper method to return the largest absolute value of an array, throwing an ArithmeticException for Long.MIN_VALUE
+     */
+    private static long maxAbs(long[] values) {
+        long max = 0;
+        for (long value : values) {
+            if (value == Long.MIN_VALUE) {
+                throw new ArithmeticException("Long.MIN_VALUE has no long absolute value");
+            }
+            max = Math.max(max, Math.abs(value));
+        }
+        return max;
+    }
+
+    /**
+     * a helper method to multiply two non-empty arrays with Karatsuba's algorithm
+     * long overflow wraps, so the intermediate sums and differences may overflow but the product is exact modulo 2^64,
+     * which makes it exact whenever fitsInLong holds
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @return the coefficients of the product
+     */
+    private static long[] karatsuba(long[] a, long[] b) {
+        int small = Math.min(a.length, b.length);
+        int large = Math.max(a.length, b.length);
+
+        if (small < LONG_KARATSUBA_THRESHOLD) {
+            return schoolbook(a, b);
+        }
+        if (2 * small <= large) {
+            return chunked(a, b);
+        }
+
+        //splitting both operands at the same power of x
+        int half = (large + 1) / 2;
+        long[] a0 = Arrays.copyOfRange(a, 0, Math.min(half, a.length));
+        long[] a1 = Arrays.copyOfRange(a, Math.min(half, a.length), a.length);
+        long[] b0 = Arrays.copyOfRange(b, 0, Math.min(half, b.length));
+        long[] b1 = Arrays.copyOfRange(b, Math.min(half, b.length), b.length);
+
+        long[] z0 = karatsuba(a0, b0);
+        long[] z2 = (a1.length == 0 || b1.length == 0) ? new long[0] : karatsuba(a1, b1);
+        long[] z1 = karatsuba(plus(a0, a1), plus(b0, b1));
+
+        long[] result = new long[a.length + b.length - 1];
+        addInto(result, z0, 0, 1);
+        addInto(result, z1, half, 1);
+        addInto(result, z0, half, -1);
+        addInto(result, z2, half, -1);
+        addInto(result, z2, 2 * half, 1);
+        return result;
+    }
+
+    /**
+     * a helper method to multiply an operand by one at least twice its size, one balanced chunk at a time
+     */
+    private static long[] chunked(long[] a, long[] b) {
+        long[] longer = (a.length >= b.length) ? a : b;
+        long[] shorter = (a.length >= b.length) ? b : a;
+
+        long[] result = new long[a.length + b.length - 1];
+        for (int start = 0; start < longer.length; start += shorter.length) {
+            long[] chunk = Arrays.copyOfRange(longer, start, Math.min(start + shorter.length, longer.length));
+            addInto(result, karatsuba(chunk, shorter), start, 1);
+        }
+        return result;
+    }
+
+    /**
+     * a helper method to multiply two non-empty arrays with the O(n * m) double loop, wrapping on overflow
+     */
+    private static long[] schoolbook(long[] a, long[] b) {
+        long[] product = new long[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) {
+                continue;
+            }
+            for (int j = 0; j < b.length; j++) {
+                product[i + j] += a[i] * b[j];
+            }
+        }
+        return product;
+    }
+
+    /**
+     * a helper method to add two arrays of possibly different lengths, wrapping on overflow
+     */
+    private static long[] plus(long[] a, long[] b) {
+        long[] sum = Arrays.copyOf(a, Math.max(a.length, b.length));
+        for (int i = 0; i < b.length; i++) {
+            sum[i] += b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * a helper method to add sign * source into target from the given offset, wrapping on overflow
+     */
+    private static void addInto(long[] target, long[] source, int offset, int sign) {
+        for (int i = 0; i < source.length && offset + i < target.length; i++) {
+            target[offset + i] += sign * source[i];
+        }
+    }
+
+    /**
+     * a helper method to box a long array into a coefficient list
+     */
+    private static List<Number> box(long[] values) {
+        List<Number> coefficients = new ArrayList<>(values.length);
+        for (long value : values) {
+            coefficients.add(value);
+        }
+        return coefficients;
+    }
+
+    /**
+     * a helper method to unbox a coefficient list into longs
+     * @return the longs, or null if some coefficient needs a BigInteger
+     */
+    private static long[] toLongs(List<Number> coefficients) {
+        long[] values = new long[coefficients.size()];
+        for (int i = 0; i < values.length; i++) {
+            Number coefficient = Objects.requireNonNull(coefficients.get(i), "coefficients cannot contain null");
+            if (!isSmall(coefficient)) {
+                return null;
+            }
+            values[i] = coefficient.longValue();
+        }
+        return values;
+    }
+
+    /**
+     * a helper method to convert a coefficient list into BigIntegers
+     */
+    private static List<BigInteger> toBigs(List<Number> coefficients) {
+        List<BigInteger> values = new ArrayList<>(coefficients.size());
+        for (Number coefficient : coefficients) {
+            values.add(big(Objects.requireNonNull(coefficient, "coefficients cannot contain null")));
+        }
+        return values;
+    }
+
+    /**
+     * a helper method to tell whether an integer is held in a primitive type
+     * a BigInteger that fits in a long is still treated as big, which is only slower, never wrong
+     */
+    private static boolean isSmall(Number x) {
+        return x instanceof Long || x instanceof Integer || x instanceof Short || x instanceof Byte;
+    }
+
+    /**
+     * a helper method to convert any integer into a BigInteger
+     */
+    private static BigInteger big(Number x) {
+        if (x instanceof BigInteger) {
+            return (BigInteger) x;
+        }
+        if (!isSmall(x)) {
+            throw new IllegalArgumentException("the adaptive integer ring only holds integers, not " + x.getClass().getSimpleName());
+        }
+        return BigInteger.valueOf(x.longValue());
+    }
+}
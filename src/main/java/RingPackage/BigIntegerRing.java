@@ -0,0 +1,137 @@
+package RingPackage;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class to demonstrate the concept of Rings on arbitrary-precision integers
+ */
+public class BigIntegerRing implements Ring<BigInteger> {
+
+    private static final int KRONECKER_THRESHOLD = 16; //the operand size from which polynomial products are packed
+
+    /**
+     * overriding the zero method
+     */
+    @Override
+    public BigInteger zero() {
+        return BigInteger.ZERO;
+    }
+
+    /**
+     * overriding the identity method
+     */
+    @Override
+    public BigInteger identity() {
+        return BigInteger.ONE;
+    }
+
+    /**
+     * overriding the sum method
+     */
+    @Override
+    public BigInteger sum(BigInteger x, BigInteger y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.add(y);
+    }
+
+    /**
+     * overriding the product method
+     */
+    @Override
+    public BigInteger product(BigInteger x, BigInteger y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.multiply(y);
+    }
+
+    /**
+     * overriding the hasNegation method
+     */
+    @Override
+    public boolean hasNegation() {
+        return true;
+    }
+
+    /**
+     * overriding the negate method
+     */
+    @Override
+    public BigInteger negate(BigInteger x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.negate();
+    }
+
+    /**
+     * overriding the inverse method, only 1 and -1 are invertible in the integers
+     */
+    @Override
+    public BigInteger inverse(BigInteger x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        if (!x.abs().equals(BigInteger.ONE)) {
+            throw new ArithmeticException(x + " has no inverse in the integers");
+        }
+        return x;
+    }
+
+    /**
+     * overriding the polynomialProduct method
+     * large products are packed into a single BigInteger each (Kronecker substitution),
+     * so the whole product is one call to the JDK's Toom-Cook multiplication
+     * subclasses may redefine sum or product, so they keep the generic algorithm
+     */
+    @Override
+    public WorkingPolynomial<BigInteger> polynomialProduct(WorkingPolynomial<BigInteger> x, WorkingPolynomial<BigInteger> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        if (getClass() != BigIntegerRing.class) {
+            return Ring.super.polynomialProduct(x, y);
+        }
+        if (Math.min(x.degree(), y.degree()) + 1 < KRONECKER_THRESHOLD) {
+            return x.times(y, this);
+        }
+        return WorkingPolynomial.wrap(Arrays.asList(KroneckerSubstitution.multiply(x.coefficientView(), y.coefficientView())));
+    }
+
+    /**
+     * overriding the polynomialAlgorithm method
+     */
+    @Override
+    public String polynomialAlgorithm(int xLength, int yLength) {
+        if (getClass() != BigIntegerRing.class || Math.min(xLength, yLength) < KRONECKER_THRESHOLD) {
+            return Ring.super.polynomialAlgorithm(xLength, yLength);
+        }
+        return "kronecker";
+    }
+
+    /**
+     * overriding the polynomialSquare method
+     * large squares are packed like products, and the packed value is squared by the JDK
+     */
+    @Override
+    public WorkingPolynomial<BigInteger> polynomialSquare(WorkingPolynomial<BigInteger> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        if (getClass() != BigIntegerRing.class) {
+            return Ring.super.polynomialSquare(x);
+        }
+        if (x.degree() + 1 < KRONECKER_THRESHOLD) {
+            return x.square(this);
+        }
+        return WorkingPolynomial.wrap(Arrays.asList(KroneckerSubstitution.square(x.coefficientView())));
+    }
+}
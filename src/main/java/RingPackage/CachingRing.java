@@ -0,0 +1,406 @@
+package RingPackage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Vidyut Veedgav
+ * a class decorating any ring with a memo of its products, so repeated operand pairs are multiplied once
+ * works best over a PolynomialRing, whose elements hash and compare by their coefficients
+ * the memo is a least recently used map bounded by the total weight of its entries, a polynomial weighing
+ * its number of coefficients, so a few huge products cannot push the heap out of bounds
+ * large memos are split into up to 16 segments by key hash, each a least recently used map with its own lock and
+ * an equal share of the maximum weight, so threads looking up different pairs rarely wait on each other;
+ * memos too small to split keep a single segment, and so an exact least recently used order
+ * products are computed outside the locks, so two threads missing on the same pair may both compute it
+ */
+public final class CachingRing<T> implements Ring<T> {
+
+    private static final int MAXIMUM_SEGMENTS = 16; //the largest number of independently locked segments
+    private static final long MINIMUM_SEGMENT_WEIGHT = 1024; //the smallest weight a segment is split down to
+
+    private final Ring<T> ring; //the ring being decorated
+    private final Segment[] segments; //the memo, split by key hash, a power of two in number
+
+    private final LongAdder hits = new LongAdder(); //the number of results found in the memo
+    private final LongAdder misses = new LongAdder(); //the number of results computed
+    private final LongAdder evictions = new LongAdder(); //the number of results dropped to stay under the maximum weight
+
+    /**
+     * a constructor for the CachingRing class
+     * @param ring the ring being decorated
+     * @param maximumWeight the largest total weight the memo holds
+     */
+    private CachingRing(Ring<T> ring, long maximumWeight) {
+        //null check
+        assert ring != null : "ring cannot be null";
+
+        this.ring = ring;
+        int count = (int) Math.min(MAXIMUM_SEGMENTS, Long.highestOneBit(Math.max(1, maximumWeight / MINIMUM_SEGMENT_WEIGHT)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximumWeight / count);
+        }
+    }
+
+    /**
+     * a static method to return a new caching decorator
+     * @param ring the ring being decorated
+     * @param maximumWeight the largest total weight the memo holds, one per stored coefficient or element, at least 1
+     * @return a new caching ring with an empty memo
+     */
+    public static <T> CachingRing<T> of(Ring<T> ring, long maximumWeight) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("maximumWeight must be at least 1");
+        }
+
+        return new CachingRing<>(ring, maximumWeight);
+    }
+
+    /**
+     * a getter method to return the number of results found in the memo
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * a getter method to return the number of results that had to be computed
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * a getter method to return the number of results dropped to stay under the maximum weight
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * a getter method to return the total weight currently held by the memo
+     * @return the weight
+     */
+    public long getWeight() {
+        long weight = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                weight += segment.weight;
+            }
+        }
+        return weight;
+    }
+
+    /**
+     * a method to empty the memo, keeping the statistics
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.weight = 0;
+            }
+        }
+    }
+
+    /**
+     * overriding the zero method
+     */
+    @Override
+    public T zero() {
+        return ring.zero();
+    }
+
+    /**
+     * overriding the identity method
+     */
+    @Override
+    public T identity() {
+        return ring.identity();
+    }
+
+    /**
+     * overriding the sum method, which is not memoized since it costs about as much as a lookup
+     */
+    @Override
+    public T sum(T x, T y) {
+        return ring.sum(x, y);
+    }
+
+    /**
+     * overriding the product method, looking the pair up in the memo first
+     */
+    @Override
+    public T product(T x, T y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        Key key = new Key(Operation.PRODUCT, x, y);
+        T result = lookup(key);
+        if (result == null) {
+            result = ring.product(x, y);
+            store(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * overriding the isZero method
+     */
+    @Override
+    public boolean isZero(T x) {
+        return ring.isZero(x);
+    }
+
+    /**
+     * overriding the hasNegation method
+     */
+    @Override
+    public boolean hasNegation() {
+        return ring.hasNegation();
+    }
+
+    /**
+     * overriding the negate method
+     */
+    @Override
+    public T negate(T x) {
+        return ring.negate(x);
+    }
+
+    /**
+     * overriding the isField method
+     */
+    @Override
+    public boolean isField() {
+        return ring.isField();
+    }
+
+    /**
+     * overriding the inverse method
+     */
+    @Override
+    public T inverse(T x) {
+        return ring.inverse(x);
+    }
+
+    /**
+     * overriding the multiplyAdd method, keeping the decorated ring's fused version
+     */
+    @Override
+    public T multiplyAdd(T accumulator, T x, T y) {
+        return ring.multiplyAdd(accumulator, x, y);
+    }
+
+    /**
+     * overriding the dot method, keeping the decorated ring's bulk version
+     */
+    @Override
+    public T dot(List<T> x, int xFrom, List<T> y, int yFrom, int length) {
+        return ring.dot(x, xFrom, y, yFrom, length);
+    }
+
+    /**
+     * overriding the vectorSum method, keeping the decorated ring's bulk version
+     */
+    @Override
+    public List<T> vectorSum(List<T> x, List<T> y) {
+        return ring.vectorSum(x, y);
+    }
+
+    /**
+     * overriding the vectorScale method, keeping the decorated ring's bulk version
+     */
+    @Override
+    public List<T> vectorScale(T scalar, List<T> x) {
+        return ring.vectorScale(scalar, x);
+    }
+
+    /**
+     * overriding the polynomialProduct method, looking the pair up in the memo first
+     * misses use the decorated ring's own algorithm, so fast paths such as the NTT are kept
+     */
+    @Override
+    public WorkingPolynomial<T> polynomialProduct(WorkingPolynomial<T> x, WorkingPolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        Key key = new Key(Operation.POLYNOMIAL_PRODUCT, x, y);
+        WorkingPolynomial<T> result = lookup(key);
+        if (result == null) {
+            result = ring.polynomialProduct(x, y);
+            store(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * overriding the polynomialAlgorithm method, naming the algorithm a miss would use
+     */
+    @Override
+    public String polynomialAlgorithm(int xLength, int yLength) {
+        return ring.polynomialAlgorithm(xLength, yLength);
+    }
+
+    /**
+     * overriding the polynomialSquare method, looking the operand up in the memo first
+     */
+    @Override
+    public WorkingPolynomial<T> polynomialSquare(WorkingPolynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        Key key = new Key(Operation.POLYNOMIAL_SQUARE, x, x);
+        WorkingPolynomial<T> result = lookup(key);
+        if (result == null) {
+            result = ring.polynomialSquare(x);
+            store(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * a helper method to look a key up, counting the hit or the miss
+     * @return the memoized result, or null on a miss
+     */
+    @SuppressWarnings("unchecked")
+    private <R> R lookup(Key key) {
+        Segment segment = segmentFor(key);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.entries.get(key);
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return (R) entry.result;
+    }
+
+    /**
+     * a helper method to store a result, evicting the least recently used entries of its segment until the weight fits
+     * a result heavier than a whole segment is not stored at all
+     */
+    private void store(Key key, Object result) {
+        Segment segment = segmentFor(key);
+        long entryWeight = weigh(key.left) + weigh(key.right) + weigh(result);
+        if (entryWeight > segment.maximumWeight) {
+            return;
+        }
+
+        synchronized (segment) {
+            Entry previous = segment.entries.put(key, new Entry(result, entryWeight));
+            segment.weight += entryWeight - ((previous == null) ? 0 : previous.weight);
+
+            Iterator<Entry> eldest = segment.entries.values().iterator();
+            while (segment.weight > segment.maximumWeight && eldest.hasNext()) {
+                segment.weight -= eldest.next().weight;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * a helper method to return the segment of a key, mixing the high bits of the hash into the low ones
+     */
+    private Segment segmentFor(Key key) {
+        int h = key.hash;
+        return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * a helper method to weigh a value, a polynomial by its number of coefficients and anything else as one
+     */
+    private static long weigh(Object value) {
+        if (value instanceof WorkingPolynomial) {
+            return Math.max(1, ((WorkingPolynomial<?>) value).degree() + 1);
+        }
+        return 1;
+    }
+
+    /**
+     * the operations whose results are memoized
+     */
+    private enum Operation {
+        PRODUCT, POLYNOMIAL_PRODUCT, POLYNOMIAL_SQUARE
+    }
+
+    /**
+     * a helper class holding an operation and its operands, with the hash computed once
+     * polynomial operands cache their own hash, so building a key does not walk the coefficients again
+     */
+    private static final class Key {
+
+        private final Operation operation; //the operation
+        private final Object left; //the first operand
+        private final Object right; //the second operand
+        private final int hash; //the combined hash of the operation and the operands
+
+        private Key(Operation operation, Object left, Object right) {
+            this.operation = operation;
+            this.left = left;
+            this.right = right;
+            this.hash = 31 * (31 * operation.ordinal() + left.hashCode()) + right.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) other;
+            return this.hash == that.hash && this.operation == that.operation
+                    && this.left.equals(that.left) && this.right.equals(that.right);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * a helper class holding one segment of the memo, whose fields are guarded by the segment itself
+     */
+    private static final class Segment {
+
+        private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true); //the memoized results in access order
+        private final long maximumWeight; //the largest total weight the segment holds
+        private long weight; //the total weight of the segment
+
+        private Segment(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+    }
+
+    /**
+     * a helper class holding a memoized result and its weight
+     */
+    private static final class Entry {
+
+        private final Object result; //the result
+        private final long weight; //the weight of the operands and the result
+
+        private Entry(Object result, long weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class to demonstrate the concept of Rings on doubles
+ * floating-point addition is not associative, so the ring laws only hold up to rounding
+ * large polynomial products use the fast Fourier transform, whose error bound is documented in FastFourierTransform,
+ * and smaller ones the schoolbook algorithm, which keeps every coefficient within about
+ * min(a.length, b.length) * 2^-53 * sum |a_i * b_j| of the exact one, so integer inputs with small products stay exact
+ */
+public final class DoubleRing implements Ring<Double> {
+
+    public static final int FFT_THRESHOLD = 64; //the operand size from which polynomial products use the FFT
+
+    /**
+     * overriding the zero method
+     */
+    @Override
+    public Double zero() {
+        return 0.0;
+    }
+
+    /**
+     * overriding the identity method
+     */
+    @Override
+    public Double identity() {
+        return 1.0;
+    }
+
+    /**
+     * overriding the sum method
+     */
+    @Override
+    public Double sum(Double x, Double y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x + y;
+    }
+
+    /**
+     * overriding the product method
+     */
+    @Override
+    public Double product(Double x, Double y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x * y;
+    }
+
+    /**
+     * overriding the isZero method, so that -0.0 counts as zero too
+     */
+    @Override
+    public boolean isZero(Double x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x == 0;
+    }
+
+    /**
+     * overriding the hasNegation method
+     */
+    @Override
+    public boolean hasNegation() {
+        return true;
+    }
+
+    /**
+     * overriding the negate method
+     */
+    @Override
+    public Double negate(Double x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return -x;
+    }
+
+    /**
+     * overriding the inverse method, every non-zero double having a rounded reciprocal
+     * isField stays false, since exact algorithms such as gcd make no sense under rounding
+     */
+    @Override
+    public Double inverse(Double x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        if (x == 0) {
+            throw new ArithmeticException("zero has no inverse");
+        }
+        return 1 / x;
+    }
+
+    /**
+     * overriding the dot method, accumulating in a primitive double and boxing only the result
+     */
+    @Override
+    public Double dot(List<Double> x, int xFrom, List<Double> y, int yFrom, int length) {
+        double result = 0;
+        for (int i = 0; i < length; i++) {
+            result += x.get(xFrom + i) * y.get(yFrom + i);
+        }
+        return result;
+    }
+
+    /**
+     * overriding the polynomialProduct method
+     * the coefficients are unboxed once and multiplied on double arrays, see multiply(double[], double[], double[])
+     */
+    @Override
+    public WorkingPolynomial<Double> polynomialProduct(WorkingPolynomial<Double> x, WorkingPolynomial<Double> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        double[] a = toArray(x.coefficientView());
+        double[] b = toArray(y.coefficientView());
+        return WorkingPolynomial.wrap(toList(multiply(a, b)));
+    }
+
+    /**
+     * overriding the polynomialAlgorithm method
+     */
+    @Override
+    public String polynomialAlgorithm(int xLength, int yLength) {
+        return (Math.min(xLength, yLength) < FFT_THRESHOLD) ? "double-schoolbook" : "fft";
+    }
+
+    /**
+     * overriding the polynomialSquare method, which goes through the same path as products
+     */
+    @Override
+    public WorkingPolynomial<Double> polynomialSquare(WorkingPolynomial<Double> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return polynomialProduct(x, x);
+    }
+
+    /**
+     * a static method to multiply two polynomials given by their double coefficients
+     * @param a the coefficients of the first polynomial, lowest power first
+     * @param b the coefficients of the second polynomial, lowest power first
+     * @return a new array with the a.length + b.length - 1 coefficients of the product, zeros if one operand is empty
+     * and none if both are
+     */
+    public static double[] multiply(double[] a, double[] b) {
+        //null checks
+        Objects.requireNonNull(a, "a cannot be null");
+        Objects.requireNonNull(b, "b cannot be null");
+
+        double[] product = new double[Multiplication.productLength(a.length, b.length)];
+        multiply(a, b, product);
+        return product;
+    }
+
+    /**
+     * a static method to multiply two polynomials into a caller-owned array
+     * operands of at least FFT_THRESHOLD coefficients use the FFT, on cached twiddles and per-thread scratch buffers,
+     * so repeated calls allocate nothing once a thread has seen its largest size
+     * smaller operands, and operands holding infinities or NaNs, which the FFT would spread over every coefficient,
+     * use the schoolbook algorithm
+     * @param a the coefficients of the first polynomial, lowest power first
+     * @param b the coefficients of the second polynomial, lowest power first
+     * @param product the array receiving the a.length + b.length - 1 coefficients of the product
+     */
+    public static void multiply(double[] a, double[] b, double[] product) {
+        //null checks
+        Objects.requireNonNull(a, "a cannot be null");
+        Objects.requireNonNull(b, "b cannot be null");
+        Objects.requireNonNull(product, "product cannot be null");
+        int productLength = Multiplication.productLength(a.length, b.length);
+        if (product.length < productLength) {
+            throw new IllegalArgumentException("product needs " + productLength + " coefficients");
+        }
+        if (a.length == 0 || b.length == 0) {
+            Arrays.fill(product, 0, productLength, 0.0);
+            return;
+        }
+
+        if (Math.min(a.length, b.length) < FFT_THRESHOLD || !isFinite(a) || !isFinite(b)) {
+            schoolbook(a, b, product);
+        } else {
+            FastFourierTransform.multiply(a, b, product);
+        }
+    }
+
+    /**
+     * a helper method to multiply two arrays term by term
+     */
+    private static void schoolbook(double[] a, double[] b, double[] product) {
+        for (int k = 0; k < a.length + b.length - 1; k++) {
+            double sum = 0;
+            for (int i = Math.max(0, k - b.length + 1); i <= Math.min(k, a.length - 1); i++) {
+                sum += a[i] * b[k - i];
+            }
+            product[k] = sum;
+        }
+    }
+
+    /**
+     * a helper method to tell whether every value is finite
+     */
+    private static boolean isFinite(double[] values) {
+        for (double value : values) {
+            if (!Double.isFinite(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * a helper method to unbox a coefficient list
+     */
+    private static double[] toArray(List<Double> coefficients) {
+        double[] values = new double[coefficients.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = coefficients.get(i);
+        }
+        return values;
+    }
+
+    /**
+     * a helper method to box an array into a coefficient list
+     */
+    private static List<Double> toList(double[] values) {
+        List<Double> coefficients = new ArrayList<>(values.length);
+        for (double value : values) {
+            coefficients.add(value);
+        }
+        return coefficients;
+    }
+}
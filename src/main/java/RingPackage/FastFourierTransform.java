@@ -0,0 +1,207 @@
+package RingPackage;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author Vidyut Veedgav
+ * a helper class multiplying polynomials with double coefficients with the fast Fourier transform
+ * the twiddle factors are computed once per transform size and shared by every caller, and each thread keeps
+ * its own scratch buffers, so repeated products only allocate when a thread needs a larger transform than before
+ *
+ * both operands go through a single complex transform: with z = s * a + i * t * b, where s and t are powers of two
+ * bringing the largest coefficients of s * a and t * b to the binade [1, 2), the imaginary part of z^2 is 2 * s * t * a * b
+ * and s * t is only divided out at the end, so operands of any magnitude neither overflow nor underflow on the way
+ * error bound: with N the transform size and u = 2^-53, every coefficient of the product is within about
+ * 12 * log2(N) * u * ||a|| * ||b|| of the exact one, ||.|| being the Euclidean norm of the coefficients
+ * (Percival's bound for floating-point FFT products, the twiddles being correctly rounded); measured errors are
+ * far smaller, but coefficients much smaller than that bound, for instance after cancellation, carry no correct digits
+ */
+final class FastFourierTransform {
+
+    //the cached tables, keyed by the base 2 logarithm of the transform size
+    private static final ConcurrentMap<Integer, Twiddles> TWIDDLES = new ConcurrentHashMap<>();
+
+    //the scratch buffers of each thread
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    /**
+     * a private constructor, the class only has static methods
+     */
+    private FastFourierTransform() {
+    }
+
+    /**
+     * a class holding the powers of the root of unity e^(2 pi i / n) for one transform size
+     */
+    private static final class Twiddles {
+        private final double[] cos; //cos(2 pi k / n) for k = 0, ..., n/2 - 1
+        private final double[] sin; //sin(2 pi k / n) for k = 0, ..., n/2 - 1
+
+        private Twiddles(double[] cos, double[] sin) {
+            this.cos = cos;
+            this.sin = sin;
+        }
+    }
+
+    /**
+     * a class holding the real and imaginary parts a thread transforms in place
+     */
+    private static final class Scratch {
+        private double[] real = new double[0]; //the real parts
+        private double[] imaginary = new double[0]; //the imaginary parts
+
+        /**
+         * a method to make sure both buffers hold at least size values
+         */
+        private void ensure(int size) {
+            if (real.length < size) {
+                real = new double[size];
+                imaginary = new double[size];
+            }
+        }
+    }
+
+    /**
+     * a method to multiply two non-empty arrays of finite coefficients
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param product the array receiving the a.length + b.length - 1 coefficients of the product
+     */
+    static void multiply(double[] a, double[] b, double[] product) {
+        assert a.length > 0 && b.length > 0 : "operands cannot be empty";
+        assert product.length >= a.length + b.length - 1 : "product is too short";
+
+        int productLength = a.length + b.length - 1;
+        double aMax = maxAbs(a);
+        double bMax = maxAbs(b);
+        if (aMax == 0 || bMax == 0) {
+            Arrays.fill(product, 0, productLength, 0.0);
+            return;
+        }
+
+        //scaling by a power of two is exact, and normalizing each operand keeps both z^2 and a^2 - b^2 in range
+        int aExponent = Math.getExponent(aMax);
+        int bExponent = Math.getExponent(bMax);
+        int size = transformSize(productLength);
+        Twiddles twiddles = twiddles(Integer.numberOfTrailingZeros(size));
+        Scratch scratch = SCRATCH.get();
+        scratch.ensure(size);
+        double[] real = scratch.real;
+        double[] imaginary = scratch.imaginary;
+
+        for (int i = 0; i < size; i++) {
+            real[i] = (i < a.length) ? Math.scalb(a[i], -aExponent) : 0.0;
+            imaginary[i] = (i < b.length) ? Math.scalb(b[i], -bExponent) : 0.0;
+        }
+        transform(real, imaginary, size, twiddles, 1);
+        for (int i = 0; i < size; i++) {
+            double x = real[i];
+            double y = imaginary[i];
+            real[i] = (x - y) * (x + y);
+            imaginary[i] = 2 * x * y;
+        }
+        transform(real, imaginary, size, twiddles, -1);
+
+        //the imaginary part holds 2 * size * 2^-(aExponent + bExponent) * a * b
+        int scale = aExponent + bExponent - 1 - Integer.numberOfTrailingZeros(size);
+        for (int i = 0; i < productLength; i++) {
+            product[i] = Math.scalb(imaginary[i], scale);
+        }
+    }
+
+    /**
+     * a helper method to run an in-place iterative radix-2 transform on the first size values
+     * @param real the real parts
+     * @param imaginary the imaginary parts
+     * @param size the transform size, a power of two
+     * @param twiddles the roots of unity for this size
+     * @param sign 1 for the forward transform, -1 for the unscaled inverse
+     */
+    private static void transform(double[] real, double[] imaginary, int size, Twiddles twiddles, int sign) {
+        //reordering the values into bit-reversed index order
+        for (int i = 1, j = 0; i < size; i++) {
+            int bit = size >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                double swap = real[i];
+                real[i] = real[j];
+                real[j] = swap;
+                swap = imaginary[i];
+                imaginary[i] = imaginary[j];
+                imaginary[j] = swap;
+            }
+        }
+
+        //combining butterflies of doubling length
+        for (int length = 2; length <= size; length <<= 1) {
+            int halfLength = length >> 1;
+            int step = size / length;
+            for (int start = 0; start < size; start += length) {
+                for (int k = 0; k < halfLength; k++) {
+                    double wr = twiddles.cos[k * step];
+                    double wi = sign * twiddles.sin[k * step];
+                    int top = start + k;
+                    int bottom = top + halfLength;
+                    double vr = real[bottom] * wr - imaginary[bottom] * wi;
+                    double vi = real[bottom] * wi + imaginary[bottom] * wr;
+                    real[bottom] = real[top] - vr;
+                    imaginary[bottom] = imaginary[top] - vi;
+                    real[top] += vr;
+                    imaginary[top] += vi;
+                }
+            }
+        }
+    }
+
+    /**
+     * a helper method to return the cached twiddle table of a size, computing it once
+     * @param log the base 2 logarithm of the transform size
+     * @return the twiddle table
+     */
+    private static Twiddles twiddles(int log) {
+        return TWIDDLES.computeIfAbsent(log, FastFourierTransform::computeTwiddles);
+    }
+
+    /**
+     * a helper method to compute the twiddle table of a size
+     * every factor comes straight from Math.cos and Math.sin instead of a recurrence, so none is off by more than an ulp
+     */
+    private static Twiddles computeTwiddles(int log) {
+        int size = 1 << log;
+        double[] cos = new double[Math.max(1, size / 2)];
+        double[] sin = new double[cos.length];
+        for (int k = 0; k < cos.length; k++) {
+            double angle = 2 * Math.PI * k / size;
+            cos[k] = Math.cos(angle);
+            sin[k] = Math.sin(angle);
+        }
+        return new Twiddles(cos, sin);
+    }
+
+    /**
+     * a helper method to return the largest absolute value of an array
+     */
+    private static double maxAbs(double[] values) {
+        double max = 0;
+        for (double value : values) {
+            max = Math.max(max, Math.abs(value));
+        }
+        return max;
+    }
+
+    /**
+     * a helper method to compute the power of two the transform runs on
+     */
+    private static int transformSize(int productLength) {
+        int size = Integer.highestOneBit(Math.max(1, productLength));
+        if (size < productLength) {
+            size <<= 1;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,320 @@
+package RingPackage;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.EventType;
+
+/**
+ * @author Vidyut Veedgav
+ * a class decorating any ring with call counters for every operation, latency histograms for the polynomial
+ * operations and a Flight Recorder event per polynomial operation carrying the degrees and the chosen algorithm
+ * counters are striped LongAdders, so threads sharing the ring do not contend on them, and a disabled ring
+ * only reads one volatile flag per call before delegating
+ * coefficient operations made inside the decorated ring's own polynomial algorithms are not counted,
+ * since its fast paths never call them, and their time shows up in the polynomial latency instead
+ */
+public final class InstrumentedRing<T> implements Ring<T> {
+
+    /**
+     * the operations of a ring, each with its own counter
+     */
+    public enum Operation {
+        ZERO, IDENTITY, SUM, PRODUCT, NEGATE, INVERSE, MULTIPLY_ADD, DOT, VECTOR_SUM, VECTOR_SCALE,
+        POLYNOMIAL_PRODUCT, POLYNOMIAL_SQUARE
+    }
+
+    //the flight recorder's view of the event, which tells whether any recording enables it without allocating an event
+    private static final EventType EVENT_TYPE = EventType.getEventType(PolynomialOperationEvent.class);
+
+    private final Ring<T> ring; //the ring being decorated
+
+    private final LongAdder[] counts; //the number of calls of each operation, indexed by ordinal
+    private final LatencyHistogram productLatency; //the latencies of polynomialProduct
+    private final LatencyHistogram squareLatency; //the latencies of polynomialSquare
+
+    private volatile boolean enabled; //whether calls are being recorded
+
+    /**
+     * a constructor for the InstrumentedRing class
+     * @param ring the ring being decorated
+     */
+    private InstrumentedRing(Ring<T> ring) {
+        //null check
+        assert ring != null : "ring cannot be null";
+
+        this.ring = ring;
+        this.counts = new LongAdder[Operation.values().length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+        this.productLatency = new LatencyHistogram();
+        this.squareLatency = new LatencyHistogram();
+        this.enabled = true;
+    }
+
+    /**
+     * a static method to return a new instrumented decorator, recording from the start
+     * @param ring the ring being decorated
+     * @return a new instrumented ring with every counter at zero
+     */
+    public static <T> InstrumentedRing<T> of(Ring<T> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return new InstrumentedRing<>(ring);
+    }
+
+    /**
+     * a method to turn recording on or off, keeping the values recorded so far
+     * @param enabled true to record calls
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * a method to tell whether calls are being recorded
+     * @return true if recording
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * a method to take a snapshot of every counter and histogram
+     * each value is read on its own, so calls running concurrently may show up in some values only
+     * @return a new snapshot
+     */
+    public RingMetrics snapshot() {
+        EnumMap<Operation, Long> snapshotCounts = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            snapshotCounts.put(operation, counts[operation.ordinal()].sum());
+        }
+        EnumMap<Operation, RingMetrics.Latency> latencies = new EnumMap<>(Operation.class);
+        latencies.put(Operation.POLYNOMIAL_PRODUCT, new RingMetrics.Latency(productLatency.bucketCounts(), productLatency.totalNanos()));
+        latencies.put(Operation.POLYNOMIAL_SQUARE, new RingMetrics.Latency(squareLatency.bucketCounts(), squareLatency.totalNanos()));
+        return new RingMetrics(snapshotCounts, latencies);
+    }
+
+    /**
+     * a method to set every counter and histogram back to zero
+     */
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+        productLatency.reset();
+        squareLatency.reset();
+    }
+
+    /**
+     * overriding the zero method
+     */
+    @Override
+    public T zero() {
+        count(Operation.ZERO);
+        return ring.zero();
+    }
+
+    /**
+     * overriding the identity method
+     */
+    @Override
+    public T identity() {
+        count(Operation.IDENTITY);
+        return ring.identity();
+    }
+
+    /**
+     * overriding the sum method
+     */
+    @Override
+    public T sum(T x, T y) {
+        count(Operation.SUM);
+        return ring.sum(x, y);
+    }
+
+    /**
+     * overriding the product method
+     */
+    @Override
+    public T product(T x, T y) {
+        count(Operation.PRODUCT);
+        return ring.product(x, y);
+    }
+
+    /**
+     * overriding the isZero method, which is not counted
+     */
+    @Override
+    public boolean isZero(T x) {
+        return ring.isZero(x);
+    }
+
+    /**
+     * overriding the hasNegation method, which is not counted
+     */
+    @Override
+    public boolean hasNegation() {
+        return ring.hasNegation();
+    }
+
+    /**
+     * overriding the negate method
+     */
+    @Override
+    public T negate(T x) {
+        count(Operation.NEGATE);
+        return ring.negate(x);
+    }
+
+    /**
+     * overriding the isField method, which is not counted
+     */
+    @Override
+    public boolean isField() {
+        return ring.isField();
+    }
+
+    /**
+     * overriding the inverse method
+     */
+    @Override
+    public T inverse(T x) {
+        count(Operation.INVERSE);
+        return ring.inverse(x);
+    }
+
+    /**
+     * overriding the multiplyAdd method
+     */
+    @Override
+    public T multiplyAdd(T accumulator, T x, T y) {
+        count(Operation.MULTIPLY_ADD);
+        return ring.multiplyAdd(accumulator, x, y);
+    }
+
+    /**
+     * overriding the dot method
+     */
+    @Override
+    public T dot(List<T> x, int xFrom, List<T> y, int yFrom, int length) {
+        count(Operation.DOT);
+        return ring.dot(x, xFrom, y, yFrom, length);
+    }
+
+    /**
+     * overriding the vectorSum method
+     */
+    @Override
+    public List<T> vectorSum(List<T> x, List<T> y) {
+        count(Operation.VECTOR_SUM);
+        return ring.vectorSum(x, y);
+    }
+
+    /**
+     * overriding the vectorScale method
+     */
+    @Override
+    public List<T> vectorScale(T scalar, List<T> x) {
+        count(Operation.VECTOR_SCALE);
+        return ring.vectorScale(scalar, x);
+    }
+
+    /**
+     * overriding the polynomialAlgorithm method, which is not counted
+     */
+    @Override
+    public String polynomialAlgorithm(int xLength, int yLength) {
+        return ring.polynomialAlgorithm(xLength, yLength);
+    }
+
+    /**
+     * overriding the polynomialProduct method, timing the decorated ring's product
+     */
+    @Override
+    public WorkingPolynomial<T> polynomialProduct(WorkingPolynomial<T> x, WorkingPolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        if (!enabled) {
+            return ring.polynomialProduct(x, y);
+        }
+        counts[Operation.POLYNOMIAL_PRODUCT.ordinal()].increment();
+        PolynomialOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+
+        WorkingPolynomial<T> result = ring.polynomialProduct(x, y);
+
+        productLatency.record(System.nanoTime() - start);
+        commit(event, Operation.POLYNOMIAL_PRODUCT, x, y, result);
+        return result;
+    }
+
+    /**
+     * overriding the polynomialSquare method, timing the decorated ring's square
+     */
+    @Override
+    public WorkingPolynomial<T> polynomialSquare(WorkingPolynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        if (!enabled) {
+            return ring.polynomialSquare(x);
+        }
+        counts[Operation.POLYNOMIAL_SQUARE.ordinal()].increment();
+        PolynomialOperationEvent event = beginEvent();
+        long start = System.nanoTime();
+
+        WorkingPolynomial<T> result = ring.polynomialSquare(x);
+
+        squareLatency.record(System.nanoTime() - start);
+        commit(event, Operation.POLYNOMIAL_SQUARE, x, x, result);
+        return result;
+    }
+
+    /**
+     * a helper method to count one call of an operation while recording is enabled
+     */
+    private void count(Operation operation) {
+        if (enabled) {
+            counts[operation.ordinal()].increment();
+        }
+    }
+
+    /**
+     * a helper method to start timing an event, only allocating one while a recording enables the event type
+     * @return the started event, or null when no recording wants it
+     */
+    private static PolynomialOperationEvent beginEvent() {
+        if (!EVENT_TYPE.isEnabled()) {
+            return null;
+        }
+        PolynomialOperationEvent event = new PolynomialOperationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * a helper method to fill in and commit an event, only when a recording wants it
+     */
+    private void commit(PolynomialOperationEvent event, Operation operation, WorkingPolynomial<T> x, WorkingPolynomial<T> y,
+            WorkingPolynomial<T> result) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation.name();
+            event.algorithm = ring.polynomialAlgorithm(x.degree() + 1, y.degree() + 1);
+            event.xDegree = x.degree();
+            event.yDegree = y.degree();
+            event.resultDegree = result.degree();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class representing a polynomial whose coefficients are stored as primitive ints
+ * the arithmetic matches IntegerRing exactly (including int overflow) but never boxes a value per term
+ */
+public final class IntPolynomial {
+
+    static final int KARATSUBA_THRESHOLD = 48; //the operand size from which times switches to Karatsuba
+
+    private final int[] coefficients; //a private instance field holding the coefficients p0, p1, ..., pm
+
+    /**
+     * a constructor for the IntPolynomial class
+     * the array is owned by the new polynomial and is never exposed
+     * @param coefficients the coefficient array of the polynomial
+     */
+    private IntPolynomial(int[] coefficients) {
+        //null check
+        assert coefficients != null : "coefficients cannot be null";
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * a method to return a new polynomial created from a copy of the input values
+     * @param coefficients the coefficients of the polynomial
+     * @return a new polynomial that has the same coefficients as the input
+     */
+    public static IntPolynomial of(int... coefficients) {
+        //null check
+        Objects.requireNonNull(coefficients, "coefficients cannot be null");
+
+        return new IntPolynomial(coefficients.clone());
+    }
+
+    /**
+     * a method to unbox a polynomial over the IntegerRing into its primitive form
+     * @param polynomial the polynomial being converted
+     * @return a new primitive polynomial with the same coefficients
+     */
+    public static IntPolynomial from(WorkingPolynomial<Integer> polynomial) {
+        //null check
+        Objects.requireNonNull(polynomial, "polynomial cannot be null");
+
+        int[] values = new int[polynomial.degree() + 1];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = polynomial.coefficient(i);
+        }
+        return new IntPolynomial(values);
+    }
+
+    /**
+     * a method to box this polynomial back into a polynomial over the IntegerRing
+     * @return a new polynomial with the same coefficients
+     */
+    public WorkingPolynomial<Integer> toPolynomial() {
+        List<Integer> list = new ArrayList<>(coefficients.length);
+        for (int value : coefficients) {
+            list.add(value);
+        }
+        return WorkingPolynomial.wrap(list);
+    }
+
+    /**
+     * a getter method to return a copy of the coefficients
+     * @return a new array of coefficients
+     */
+    public int[] getCoefficients() {
+        return coefficients.clone();
+    }
+
+    /**
+     * overrides the toString method to print the polynomial's coefficients
+     */
+    @Override
+    public String toString() {
+        return "IntPolynomial [coefficients=" + Arrays.toString(coefficients) + "]";
+    }
+
+    /**
+     * a method to evaluate the polynomial at a point with Horner's method
+     * @param x the point
+     * @return the value of the polynomial at x, with int overflow like the IntegerRing
+     */
+    public int evaluate(int x) {
+        int value = 0;
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            value = value * x + coefficients[i];
+        }
+        return value;
+    }
+
+    /**
+     * a method to evaluate the polynomial at many points in one pass, without allocating anything
+     * Horner's method runs over all points at once, one coefficient at a time, so the inner loop is
+     * a plain multiply-add over two arrays that the JIT compiles to SIMD instructions
+     * @param points the points
+     * @param values the array receiving the values, at least as long as the points
+     */
+    public void evaluateAll(int[] points, int[] values) {
+        //null checks
+        Objects.requireNonNull(points, "points cannot be null");
+        Objects.requireNonNull(values, "values cannot be null");
+        if (values.length < points.length) {
+            throw new IllegalArgumentException("values must be at least as long as points");
+        }
+
+        int count = points.length;
+        Arrays.fill(values, 0, count, 0);
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            int coefficient = coefficients[i];
+            for (int j = 0; j < count; j++) {
+                values[j] = values[j] * points[j] + coefficient;
+            }
+        }
+    }
+
+    /**
+     * a method to evaluate the polynomial at many points in one pass
+     * @param points the points
+     * @return a new array with the values, in the order of the points
+     */
+    public int[] evaluateAll(int[] points) {
+        //null check
+        Objects.requireNonNull(points, "points cannot be null");
+
+        int[] values = new int[points.length];
+        evaluateAll(points, values);
+        return values;
+    }
+
+    /**
+     * a method to add two polynomials together
+     * @param other the other polynomial being added
+     * @return the sum
+     */
+    public IntPolynomial plus(IntPolynomial other) {
+        //null check
+        Objects.requireNonNull(other, "the 'other' parameter cannot be null");
+
+        int[] a = this.coefficients;
+        int[] b = other.coefficients;
+
+        //the longer array is copied once, then the shorter one is added on top of it
+        int[] longer = (a.length >= b.length) ? a : b;
+        int[] shorter = (a.length >= b.length) ? b : a;
+        int[] sum = Arrays.copyOf(longer, longer.length);
+        for (int i = 0; i < shorter.length; i++) {
+            sum[i] += shorter[i];
+        }
+        return new IntPolynomial(sum);
+    }
+
+    /**
+     * a method to multiply two polynomials together
+     * the result has the same length as WorkingPolynomial.times would produce
+     * @param other the other polynomial
+     * @return the product
+     */
+    public IntPolynomial times(IntPolynomial other) {
+        return times(other, KARATSUBA_THRESHOLD);
+    }
+
+    /**
+     * a method to multiply two polynomials together with a tunable algorithm crossover
+     * operands shorter than the threshold use the schoolbook double loop, longer ones use Karatsuba's algorithm
+     * @param other the other polynomial
+     * @param karatsubaThreshold the operand size from which Karatsuba's algorithm is used, at least 2
+     * @return the product
+     */
+    public IntPolynomial times(IntPolynomial other, int karatsubaThreshold) {
+        //null check
+        Objects.requireNonNull(other, "the 'other' parameter cannot be null");
+        if (karatsubaThreshold < 2) {
+            throw new IllegalArgumentException("karatsubaThreshold must be at least 2");
+        }
+
+        int[] a = this.coefficients;
+        int[] b = other.coefficients;
+        if (a.length == 0 || b.length == 0) {
+            return new IntPolynomial(new int[Multiplication.productLength(a.length, b.length)]);
+        }
+        return new IntPolynomial(karatsuba(a, b, karatsubaThreshold));
+    }
+
+    /**
+     * a method to square the polynomial, which takes about half the coefficient products of times
+     * @return the square
+     */
+    public IntPolynomial square() {
+        if (coefficients.length == 0) {
+            return new IntPolynomial(new int[0]);
+        }
+        return new IntPolynomial(karatsubaSquare(coefficients, KARATSUBA_THRESHOLD));
+    }
+
+    /**
+     * a helper method to square a non-empty array with Karatsuba's algorithm
+     * @param a the coefficients of the polynomial
+     * @param threshold the operand size below which the schoolbook algorithm is used
+     * @return the coefficients of the square
+     */
+    private static int[] karatsubaSquare(int[] a, int threshold) {
+        if (a.length < threshold) {
+            return schoolbookSquare(a);
+        }
+
+        int half = (a.length + 1) / 2;
+        int[] a0 = Arrays.copyOfRange(a, 0, half);
+        int[] a1 = Arrays.copyOfRange(a, half, a.length);
+
+        int[] z0 = karatsubaSquare(a0, threshold);
+        int[] z2 = karatsubaSquare(a1, threshold);
+        int[] z1 = karatsubaSquare(new IntPolynomial(a0).plus(new IntPolynomial(a1)).coefficients, threshold);
+
+        int[] result = new int[2 * a.length - 1];
+        addInto(result, z0, 0, 1);
+        addInto(result, z1, half, 1);
+        addInto(result, z0, half, -1);
+        addInto(result, z2, half, -1);
+        addInto(result, z2, 2 * half, 1);
+        return result;
+    }
+
+    /**
+     * a helper method to square a non-empty array, computing each cross term once and doubling it
+     * @param a the coefficients of the polynomial
+     * @return the coefficients of the square
+     */
+    private static int[] schoolbookSquare(int[] a) {
+        int[] product = new int[2 * a.length - 1];
+
+        for (int i = 0; i < a.length; i++) {
+            int aTerm = a[i];
+            if (aTerm == 0) {
+                continue;
+            }
+            int doubled = 2 * aTerm;
+            product[2 * i] += aTerm * aTerm;
+            for (int j = i + 1; j < a.length; j++) {
+                product[i + j] += doubled * a[j];
+            }
+        }
+        return product;
+    }
+
+    /**
+     * a helper method to multiply two non-empty arrays with Karatsuba's algorithm
+     * int overflow wraps, so the subtractions cancel exactly like in the ring of integers modulo 2^32
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param threshold the operand size below which the schoolbook algorithm is used
+     * @return the coefficients of the product
+     */
+    private static int[] karatsuba(int[] a, int[] b, int threshold) {
+        int small = Math.min(a.length, b.length);
+        int large = Math.max(a.length, b.length);
+
+        if (small < threshold) {
+            return schoolbook(a, b);
+        }
+        if (2 * small <= large) {
+            return chunked(a, b, threshold);
+        }
+
+        //splitting both operands at the same power of x
+        int half = (large + 1) / 2;
+        int[] a0 = Arrays.copyOfRange(a, 0, Math.min(half, a.length));
+        int[] a1 = Arrays.copyOfRange(a, Math.min(half, a.length), a.length);
+        int[] b0 = Arrays.copyOfRange(b, 0, Math.min(half, b.length));
+        int[] b1 = Arrays.copyOfRange(b, Math.min(half, b.length), b.length);
+
+        int[] z0 = karatsuba(a0, b0, threshold);
+        int[] z2 = (a1.length == 0 || b1.length == 0) ? new int[0] : karatsuba(a1, b1, threshold);
+        int[] z1 = karatsuba(new IntPolynomial(a0).plus(new IntPolynomial(a1)).coefficients,
+                new IntPolynomial(b0).plus(new IntPolynomial(b1)).coefficients, threshold);
+
+        int[] result = new int[a.length + b.length - 1];
+        addInto(result, z0, 0, 1);
+        addInto(result, z1, half, 1);
+        addInto(result, z0, half, -1);
+        addInto(result, z2, half, -1);
+        addInto(result, z2, 2 * half, 1);
+        return result;
+    }
+
+    /**
+     * a helper method to multiply an operand by one at least twice its size, one balanced chunk at a time
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param threshold the operand size below which the schoolbook algorithm is used
+     * @return the coefficients of the product
+     */
+    private static int[] chunked(int[] a, int[] b, int threshold) {
+        int[] longer = (a.length >= b.length) ? a : b;
+        int[] shorter = (a.length >= b.length) ? b : a;
+
+        int[] result = new int[a.length + b.length - 1];
+        for (int start = 0; start < longer.length; start += shorter.length) {
+            int[] chunk = Arrays.copyOfRange(longer, start, Math.min(start + shorter.length, longer.length));
+            addInto(result, karatsuba(chunk, shorter, threshold), start, 1);
+        }
+        return result;
+    }
+
+    /**
+     * a helper method to multiply two non-empty arrays with the O(n * m) double loop
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @return the coefficients of the product
+     */
+    private static int[] schoolbook(int[] a, int[] b) {
+        int[] product = new int[a.length + b.length - 1];
+
+        for (int i = 0; i < a.length; i++) {
+            int aTerm = a[i];
+
+            //a zero term contributes nothing to any of its products
+            if (aTerm == 0) {
+                continue;
+            }
+            for (int j = 0; j < b.length; j++) {
+                product[i + j] += aTerm * b[j];
+            }
+        }
+        return product;
+    }
+
+    /**
+     * a helper method to add or subtract an array into a target array, starting at the given power of x
+     * terms past the end of the target are dropped, since a correct product has zeros there
+     * @param target the array being accumulated into
+     * @param addend the array being added
+     * @param offset the power of x of the first addend term
+     * @param sign 1 to add the addend, -1 to subtract it
+     */
+    private static void addInto(int[] target, int[] addend, int offset, int sign) {
+        int end = Math.min(addend.length, target.length - offset);
+        for (int i = 0; i < end; i++) {
+            target[offset + i] += sign * addend[i];
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package RingPackage;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -47,4 +49,160 @@ public class IntegerRing implements Ring<Integer>{
         
         return x * y;
     }
+
+    /**
+     * overriding the hasNegation method
+     */
+    @Override
+    public boolean hasNegation() {
+        return true;
+    }
+
+    /**
+     * overriding the negate method
+     */
+    @Override
+    public Integer negate(Integer x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return -x;
+    }
+
+    /**
+     * overriding the inverse method, only 1 and -1 are invertible in the integers
+     */
+    @Override
+    public Integer inverse(Integer x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        if (!isSpecialized()) {
+            return Ring.super.inverse(x);
+        }
+        if (x != 1 && x != -1) {
+            throw new ArithmeticException(x + " has no inverse in the integers");
+        }
+        return x;
+    }
+
+    /**
+     * overriding the multiplyAdd method, boxing only the result
+     */
+    @Override
+    public Integer multiplyAdd(Integer accumulator, Integer x, Integer y) {
+        if (!isSpecialized()) {
+            return Ring.super.multiplyAdd(accumulator, x, y);
+        }
+        //null checks
+        Objects.requireNonNull(accumulator, "accumulator cannot be null");
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return accumulator + x * y;
+    }
+
+    /**
+     * overriding the dot method, accumulating in a primitive int and boxing only the result
+     */
+    @Override
+    public Integer dot(List<Integer> x, int xFrom, List<Integer> y, int yFrom, int length) {
+        if (!isSpecialized()) {
+            return Ring.super.dot(x, xFrom, y, yFrom, length);
+        }
+
+        int result = 0;
+        for (int i = 0; i < length; i++) {
+            result += x.get(xFrom + i) * y.get(yFrom + i);
+        }
+        return result;
+    }
+
+    /**
+     * overriding the vectorSum method, copying the tail of the longer vector as it is
+     */
+    @Override
+    public List<Integer> vectorSum(List<Integer> x, List<Integer> y) {
+        if (!isSpecialized()) {
+            return Ring.super.vectorSum(x, y);
+        }
+
+        List<Integer> longer = (x.size() >= y.size()) ? x : y;
+        int shorterLength = Math.min(x.size(), y.size());
+        List<Integer> result = new ArrayList<>(longer.size());
+        for (int i = 0; i < shorterLength; i++) {
+            result.add(x.get(i) + y.get(i));
+        }
+        for (int i = shorterLength; i < longer.size(); i++) {
+            result.add(Objects.requireNonNull(longer.get(i)));
+        }
+        return result;
+    }
+
+    /**
+     * overriding the vectorScale method, unboxing the scalar once
+     */
+    @Override
+    public List<Integer> vectorScale(Integer scalar, List<Integer> x) {
+        if (!isSpecialized()) {
+            return Ring.super.vectorScale(scalar, x);
+        }
+
+        int factor = scalar;
+        List<Integer> result = new ArrayList<>(x.size());
+        for (int element : x) {
+            result.add(factor * element);
+        }
+        return result;
+    }
+
+    /**
+     * overriding the polynomialProduct method
+     * routes the product onto IntPolynomial so that no value is boxed per term
+     */
+    @Override
+    public WorkingPolynomial<Integer> polynomialProduct(WorkingPolynomial<Integer> x, WorkingPolynomial<Integer> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        if (!isSpecialized()) {
+            return Ring.super.polynomialProduct(x, y);
+        }
+        return IntPolynomial.from(x).times(IntPolynomial.from(y)).toPolynomial();
+    }
+
+    /**
+     * overriding the polynomialAlgorithm method
+     */
+    @Override
+    public String polynomialAlgorithm(int xLength, int yLength) {
+        if (!isSpecialized()) {
+            return Ring.super.polynomialAlgorithm(xLength, yLength);
+        }
+        return (Math.min(xLength, yLength) < IntPolynomial.KARATSUBA_THRESHOLD) ? "int-schoolbook" : "int-karatsuba";
+    }
+
+    /**
+     * overriding the polynomialSquare method
+     * routes the square onto IntPolynomial so that no value is boxed per term
+     */
+    @Override
+    public WorkingPolynomial<Integer> polynomialSquare(WorkingPolynomial<Integer> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        if (!isSpecialized()) {
+            return Ring.super.polynomialSquare(x);
+        }
+        return IntPolynomial.from(x).square().toPolynomial();
+    }
+
+    /**
+     * a helper method to tell whether the primitive overrides apply
+     * subclasses may redefine sum or product, so they keep the generic algorithms
+     */
+    private boolean isSpecialized() {
+        return getClass() == IntegerRing.class;
+    }
 }
\ No newline at end of file
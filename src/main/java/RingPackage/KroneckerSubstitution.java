@@ -0,0 +1,120 @@
+package RingPackage;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * @author Vidyut Veedgav
+ * a helper class multiplying integer polynomials with a single BigInteger product
+ * Example (slot = 8 bits):
+ * a = (1, -2), b = (3, 4)
+ * a(2^8) * b(2^8) = (1 - 2 * 2^8) * (3 + 4 * 2^8) = 3 - 2 * 2^8 - 8 * 2^16
+ * and reading back the signed 8 bit slots gives (3, -2, -8)
+ */
+final class KroneckerSubstitution {
+
+    /**
+     * a private constructor, the class only has static methods
+     */
+    private KroneckerSubstitution() {
+    }
+
+    /**
+     * a method to multiply two non-empty coefficient arrays
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @return the coefficients of the product
+     */
+    static BigInteger[] multiply(List<BigInteger> a, List<BigInteger> b) {
+        assert !a.isEmpty() && !b.isEmpty() : "operands cannot be empty";
+
+        //every product coefficient is bounded by min(n, m) * max|a| * max|b|,
+        //two spare bits keep each signed slot strictly inside half of its range
+        long slot = (long) bitLength(a) + bitLength(b) + bitLength(Math.min(a.size(), b.size())) + 2;
+        if (slot * (a.size() + b.size()) > Integer.MAX_VALUE) {
+            throw new ArithmeticException("the packed product would exceed the BigInteger size limit");
+        }
+
+        BigInteger packed = pack(a, 0, a.size(), (int) slot).multiply(pack(b, 0, b.size(), (int) slot));
+
+        BigInteger[] product = new BigInteger[a.size() + b.size() - 1];
+        unpack(packed, product, 0, product.length, (int) slot);
+        return product;
+    }
+
+    /**
+     * a method to square a non-empty coefficient array
+     * the packed value is multiplied by itself, which the JDK turns into its faster squaring algorithm
+     * @param a the coefficients of the polynomial
+     * @return the coefficients of the square
+     */
+    static BigInteger[] square(List<BigInteger> a) {
+        assert !a.isEmpty() : "the operand cannot be empty";
+
+        long slot = 2L * bitLength(a) + bitLength(a.size()) + 2;
+        if (slot * 2 * a.size() > Integer.MAX_VALUE) {
+            throw new ArithmeticException("the packed square would exceed the BigInteger size limit");
+        }
+
+        BigInteger packed = pack(a, 0, a.size(), (int) slot);
+        packed = packed.multiply(packed);
+
+        BigInteger[] product = new BigInteger[2 * a.size() - 1];
+        unpack(packed, product, 0, product.length, (int) slot);
+        return product;
+    }
+
+    /**
+     * a helper method to evaluate the coefficients in [from, to) at 2^slot, splitting the range in halves
+     * this keeps the cost close to one big multiplication instead of a shift per coefficient
+     */
+    private static BigInteger pack(List<BigInteger> coefficients, int from, int to, int slot) {
+        if (to - from == 1) {
+            return coefficients.get(from);
+        }
+        int middle = (from + to) >>> 1;
+        BigInteger low = pack(coefficients, from, middle, slot);
+        BigInteger high = pack(coefficients, middle, to, slot);
+        return high.shiftLeft((middle - from) * slot).add(low);
+    }
+
+    /**
+     * a helper method to read back the signed slots of a packed value into [from, to) of the target
+     * the low half is taken as the balanced residue modulo 2^(half * slot), and the high half is the exact quotient
+     */
+    private static void unpack(BigInteger packed, BigInteger[] target, int from, int to, int slot) {
+        if (to - from == 1) {
+            target[from] = packed;
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        int bits = (middle - from) * slot;
+
+        BigInteger low = packed.and(BigInteger.ONE.shiftLeft(bits).subtract(BigInteger.ONE));
+        BigInteger high = packed.shiftRight(bits);
+        if (low.testBit(bits - 1)) {
+            low = low.subtract(BigInteger.ONE.shiftLeft(bits));
+            high = high.add(BigInteger.ONE);
+        }
+        unpack(low, target, from, middle, slot);
+        unpack(high, target, middle, to, slot);
+    }
+
+    /**
+     * a helper method to compute the largest bit length of the coefficients
+     */
+    private static int bitLength(List<BigInteger> coefficients) {
+        int bits = 0;
+        for (BigInteger coefficient : coefficients) {
+            bits = Math.max(bits, coefficient.bitLength());
+        }
+        return bits;
+    }
+
+    /**
+     * a helper method to compute the number of bits of a positive count
+     */
+    private static int bitLength(int count) {
+        return 32 - Integer.numberOfLeadingZeros(count);
+    }
+}
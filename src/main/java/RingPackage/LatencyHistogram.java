@@ -0,0 +1,67 @@
+package RingPackage;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Vidyut Veedgav
+ * a helper class counting latencies in power-of-two buckets of nanoseconds
+ * bucket i holds the latencies in [2^(i-1), 2^i), so recording is one leading-zero count and one striped increment
+ */
+final class LatencyHistogram {
+
+    static final int BUCKETS = 64; //one bucket per possible bit length of a latency
+
+    private final LongAdder[] buckets; //the number of latencies in each bucket
+    private final LongAdder totalNanos; //the sum of all latencies
+
+    /**
+     * a constructor for the LatencyHistogram class, with every bucket empty
+     */
+    LatencyHistogram() {
+        this.buckets = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+        this.totalNanos = new LongAdder();
+    }
+
+    /**
+     * a method to record one latency
+     * @param nanos the latency in nanoseconds, negative values counting as zero
+     */
+    void record(long nanos) {
+        long latency = Math.max(0, nanos);
+        buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(latency))].increment();
+        totalNanos.add(latency);
+    }
+
+    /**
+     * a method to copy the current counts, which are not read atomically with respect to concurrent records
+     * @return the number of latencies in each bucket
+     */
+    long[] bucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    /**
+     * a method to return the sum of all recorded latencies
+     * @return the total in nanoseconds
+     */
+    long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * a method to empty every bucket
+     */
+    void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+    }
+}
@@ -0,0 +1,264 @@
+package RingPackage;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class to demonstrate the concept of Rings on the integers modulo a prime
+ * elements are Longs in the range [0, modulus), and inputs outside of it are reduced first
+ */
+public final class ModularRing implements Ring<Long> {
+
+    public static final long NTT_PRIME = 998244353L; //a prime of the form c * 2^23 + 1, so products up to 2^23 terms use the NTT
+
+    private static final int NTT_THRESHOLD = 64; //the operand size from which polynomial products use the NTT
+
+    private final long modulus; //a private field storing the prime modulus
+
+    /**
+     * a constructor for the ModularRing class
+     * the modulus is kept below 2^31 so that the product of two residues fits in a long
+     * @param modulus a prime smaller than 2^31
+     */
+    public ModularRing(long modulus) {
+        if (modulus < 2 || modulus > Integer.MAX_VALUE || !BigInteger.valueOf(modulus).isProbablePrime(40)) {
+            throw new IllegalArgumentException("modulus must be a prime smaller than 2^31");
+        }
+        this.modulus = modulus;
+    }
+
+    /**
+     * a getter method to return the modulus
+     * @return the prime modulus of the ring
+     */
+    public long getModulus() {
+        return modulus;
+    }
+
+    /**
+     * overriding the zero method
+     */
+    @Override
+    public Long zero() {
+        return 0L;
+    }
+
+    /**
+     * overriding the identity method
+     */
+    @Override
+    public Long identity() {
+        return 1L;
+    }
+
+    /**
+     * overriding the sum method
+     */
+    @Override
+    public Long sum(Long x, Long y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return (reduce(x) + reduce(y)) % modulus;
+    }
+
+    /**
+     * overriding the product method
+     */
+    @Override
+    public Long product(Long x, Long y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return reduce(x) * reduce(y) % modulus;
+    }
+
+    /**
+     * overriding the isZero method, every multiple of the modulus being zero
+     */
+    @Override
+    public boolean isZero(Long x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return reduce(x) == 0;
+    }
+
+    /**
+     * overriding the hasNegation method
+     */
+    @Override
+    public boolean hasNegation() {
+        return true;
+    }
+
+    /**
+     * overriding the negate method
+     */
+    @Override
+    public Long negate(Long x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return (modulus - reduce(x)) % modulus;
+    }
+
+    /**
+     * overriding the isField method, the modulus being prime
+     */
+    @Override
+    public boolean isField() {
+        return true;
+    }
+
+    /**
+     * overriding the inverse method with Fermat's little theorem, x^(p - 2) * x = 1 modulo p
+     */
+    @Override
+    public Long inverse(Long x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        long residue = reduce(x);
+        if (residue == 0) {
+            throw new ArithmeticException("zero has no inverse");
+        }
+        return NumberTheoreticTransform.power(residue, modulus - 2, modulus);
+    }
+
+    /**
+     * overriding the multiplyAdd method, boxing only the result
+     */
+    @Override
+    public Long multiplyAdd(Long accumulator, Long x, Long y) {
+        //null checks
+        Objects.requireNonNull(accumulator, "accumulator cannot be null");
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return (reduce(accumulator) + reduce(x) * reduce(y)) % modulus;
+    }
+
+    /**
+     * overriding the dot method, accumulating in a primitive long and boxing only the result
+     * a residue plus the product of two residues stays below 2^63, so one reduction per term is enough
+     */
+    @Override
+    public Long dot(List<Long> x, int xFrom, List<Long> y, int yFrom, int length) {
+        long result = 0;
+        for (int i = 0; i < length; i++) {
+            result = (result + reduce(x.get(xFrom + i)) * reduce(y.get(yFrom + i))) % modulus;
+        }
+        return result;
+    }
+
+    /**
+     * overriding the vectorSum method, reducing each pair of residues without boxing intermediates
+     */
+    @Override
+    public List<Long> vectorSum(List<Long> x, List<Long> y) {
+        int length = Math.max(x.size(), y.size());
+        List<Long> result = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            long a = (i < x.size()) ? reduce(x.get(i)) : 0;
+            long b = (i < y.size()) ? reduce(y.get(i)) : 0;
+            result.add((a + b) % modulus);
+        }
+        return result;
+    }
+
+    /**
+     * overriding the vectorScale method, reducing the scalar once
+     */
+    @Override
+    public List<Long> vectorScale(Long scalar, List<Long> x) {
+        long factor = reduce(scalar);
+        List<Long> result = new ArrayList<>(x.size());
+        for (long element : x) {
+            result.add(factor * reduce(element) % modulus);
+        }
+        return result;
+    }
+
+    /**
+     * overriding the polynomialProduct method
+     * large products use the number-theoretic transform when the modulus has roots of unity of the needed order,
+     * everything else goes through the generic algorithm
+     */
+    @Override
+    public WorkingPolynomial<Long> polynomialProduct(WorkingPolynomial<Long> x, WorkingPolynomial<Long> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        long[] a = toResidues(x.coefficientView());
+        long[] b = toResidues(y.coefficientView());
+        if (Math.min(a.length, b.length) < NTT_THRESHOLD
+                || !NumberTheoreticTransform.supports(modulus, a.length + b.length - 1)) {
+            return x.times(y, this);
+        }
+
+        return WorkingPolynomial.wrap(toList(NumberTheoreticTransform.multiply(a, b, modulus)));
+    }
+
+    /**
+     * overriding the polynomialAlgorithm method
+     */
+    @Override
+    public String polynomialAlgorithm(int xLength, int yLength) {
+        if (Math.min(xLength, yLength) < NTT_THRESHOLD || !NumberTheoreticTransform.supports(modulus, xLength + yLength - 1)) {
+            return Ring.super.polynomialAlgorithm(xLength, yLength);
+        }
+        return "ntt";
+    }
+
+    /**
+     * overriding the polynomialSquare method
+     * large squares use the number-theoretic transform, which then needs one forward transform instead of two
+     */
+    @Override
+    public WorkingPolynomial<Long> polynomialSquare(WorkingPolynomial<Long> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        long[] a = toResidues(x.coefficientView());
+        if (a.length < NTT_THRESHOLD || !NumberTheoreticTransform.supports(modulus, 2 * a.length - 1)) {
+            return x.square(this);
+        }
+        return WorkingPolynomial.wrap(toList(NumberTheoreticTransform.square(a, modulus)));
+    }
+
+    /**
+     * a helper method to reduce any long into the range [0, modulus)
+     */
+    private long reduce(long x) {
+        return Math.floorMod(x, modulus);
+    }
+
+    /**
+     * a helper method to box an array of residues into a coefficient list
+     */
+    private static List<Long> toList(long[] residues) {
+        List<Long> coefficients = new ArrayList<>(residues.length);
+        for (long value : residues) {
+            coefficients.add(value);
+        }
+        return coefficients;
+    }
+
+    /**
+     * a helper method to unbox a coefficient list into reduced residues
+     */
+    private long[] toResidues(List<Long> coefficients) {
+        long[] residues = new long[coefficients.size()];
+        for (int i = 0; i < residues.length; i++) {
+            residues[i] = reduce(coefficients.get(i));
+        }
+        return residues;
+    }
+}
@@ -0,0 +1,323 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Vidyut Veedgav
+ * a helper class holding the generic polynomial multiplication algorithms on coefficient lists
+ * every algorithm only relies on the zero, sum, product and negate operations of the ring
+ */
+final class Multiplication {
+
+    /**
+     * a private constructor, the class only has static methods
+     */
+    private Multiplication() {
+    }
+
+    /**
+     * a method to multiply two coefficient lists, picking the algorithm from the operand sizes
+     * Karatsuba needs negation, so rings without it always use the schoolbook algorithm
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param ring the ring of the coefficients
+     * @param threshold the operand size below which the schoolbook algorithm is used
+     * @return the coefficients of the product
+     */
+    static <T> List<T> multiply(List<T> a, List<T> b, Ring<T> ring, int threshold) {
+        assert a != null : "a cannot be null";
+        assert b != null : "b cannot be null";
+        assert ring != null : "ring cannot be null";
+        assert threshold >= 2 : "threshold must be at least 2";
+
+        if (a.isEmpty() || b.isEmpty() || !ring.hasNegation()) {
+            return schoolbook(a, b, ring);
+        }
+        return karatsuba(a, b, ring, threshold);
+    }
+
+    /**
+     * a method to multiply two coefficient lists with the O(n * m) double loop
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param ring the ring of the coefficients
+     * @return the coefficients of the product
+     */
+    static <T> List<T> schoolbook(List<T> a, List<T> b, Ring<T> ring) {
+        int productLength = productLength(a.size(), b.size());
+        List<T> product_list = new ArrayList<>(productLength);
+
+        //with b reversed, each product coefficient is one contiguous dot product:
+        //c[k] = a[i] * b[k - i] summed over i = a[i] * reversed[m - 1 - k + i]
+        List<T> reversed = new ArrayList<>(b);
+        Collections.reverse(reversed);
+
+        for (int k = 0; k < productLength; k++) {
+            int from = Math.max(0, k - b.size() + 1); //the first index of `a` meeting `b`
+            int to = Math.min(k, a.size() - 1); //the last index of `a` meeting `b`
+            product_list.add(ring.dot(a, from, reversed, b.size() - 1 - k + from, Math.max(0, to - from + 1)));
+        }
+        return product_list;
+    }
+
+    /**
+     * a method to multiply two non-empty coefficient lists with Karatsuba's algorithm
+     * Example (half = 2):
+     * a = a0 + a1 * x^2, b = b0 + b1 * x^2
+     * a * b = z0 + (z1 - z0 - z2) * x^2 + z2 * x^4
+     * where z0 = a0 * b0, z2 = a1 * b1 and z1 = (a0 + a1) * (b0 + b1)
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param ring the ring of the coefficients, which must support negation
+     * @param threshold the operand size below which the schoolbook algorithm is used
+     * @return the coefficients of the product
+     */
+    static <T> List<T> karatsuba(List<T> a, List<T> b, Ring<T> ring, int threshold) {
+        int small = Math.min(a.size(), b.size());
+        int large = Math.max(a.size(), b.size());
+
+        if (small < threshold) {
+            return schoolbook(a, b, ring);
+        }
+        if (2 * small <= large) {
+            return chunked(a, b, ring, threshold);
+        }
+
+        //splitting both operands at the same power of x
+        int half = (large + 1) / 2;
+        List<T> a0 = low(a, half);
+        List<T> a1 = high(a, half);
+        List<T> b0 = low(b, half);
+        List<T> b1 = high(b, half);
+
+        List<T> z0 = karatsuba(a0, b0, ring, threshold);
+        List<T> z2 = (a1.isEmpty() || b1.isEmpty()) ? List.of() : karatsuba(a1, b1, ring, threshold);
+        List<T> z1 = karatsuba(add(a0, a1, ring), add(b0, b1, ring), ring, threshold);
+        z1 = subtract(subtract(z1, z0, ring), z2, ring);
+
+        List<T> result = zeros(productLength(a.size(), b.size()), ring);
+        addInto(result, z0, 0, ring);
+        addInto(result, z1, half, ring);
+        addInto(result, z2, 2 * half, ring);
+        return result;
+    }
+
+    /**
+     * a method to compute the first n coefficients of a product, which is the product modulo x^n
+     * terms of degree n and above never reach the result, so the operands are cut to n terms first,
+     * and short operands only compute the dot products of the kept coefficients, about half of the full product
+     * longer operands use the ring's fastest full product and drop its top half
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param n the number of coefficients kept
+     * @param ring the ring of the coefficients
+     * @param threshold the operand size below which the truncated schoolbook algorithm is used
+     * @return the first n coefficients of the product, fewer if the full product is shorter
+     */
+    static <T> List<T> multiplyTruncated(List<T> a, List<T> b, int n, Ring<T> ring, int threshold) {
+        assert n >= 0 : "n cannot be negative";
+
+        List<T> aLow = low(a, n);
+        List<T> bLow = low(b, n);
+        int length = Math.min(n, productLength(aLow.size(), bLow.size()));
+        if (aLow.isEmpty() || bLow.isEmpty() || Math.min(aLow.size(), bLow.size()) < threshold) {
+            return schoolbookTruncated(aLow, bLow, length, ring);
+        }
+
+        List<T> product = ring.polynomialProduct(WorkingPolynomial.wrap(aLow), WorkingPolynomial.wrap(bLow)).coefficientView();
+        return new ArrayList<>(product.subList(0, length));
+    }
+
+    /**
+     * a helper method to compute the first coefficients of a product with the schoolbook dot products
+     */
+    private static <T> List<T> schoolbookTruncated(List<T> a, List<T> b, int length, Ring<T> ring) {
+        List<T> product_list = new ArrayList<>(length);
+
+        List<T> reversed = new ArrayList<>(b);
+        Collections.reverse(reversed);
+
+        for (int k = 0; k < length; k++) {
+            int from = Math.max(0, k - b.size() + 1);
+            int to = Math.min(k, a.size() - 1);
+            product_list.add(ring.dot(a, from, reversed, b.size() - 1 - k + from, Math.max(0, to - from + 1)));
+        }
+        return product_list;
+    }
+
+    /**
+     * a method to square a coefficient list
+     * a Karatsuba step needs three squares of half the size instead of three products,
+     * and below the threshold every cross term a[i] * a[j] is computed once and doubled
+     * the doubling relies on a[i] * a[j] = a[j] * a[i], so the coefficients must commute
+     * @param a the coefficients of the polynomial
+     * @param ring the ring of the coefficients
+     * @param threshold the operand size below which the schoolbook algorithm is used
+     * @return the coefficients of the square
+     */
+    static <T> List<T> square(List<T> a, Ring<T> ring, int threshold) {
+        assert a != null : "a cannot be null";
+        assert ring != null : "ring cannot be null";
+        assert threshold >= 2 : "threshold must be at least 2";
+
+        if (a.size() < threshold || !ring.hasNegation()) {
+            return schoolbookSquare(a, ring);
+        }
+
+        int half = (a.size() + 1) / 2;
+        List<T> a0 = low(a, half);
+        List<T> a1 = high(a, half);
+
+        List<T> z0 = square(a0, ring, threshold);
+        List<T> z2 = square(a1, ring, threshold);
+        List<T> z1 = subtract(subtract(square(add(a0, a1, ring), ring, threshold), z0, ring), z2, ring);
+
+        List<T> result = zeros(productLength(a.size(), a.size()), ring);
+        addInto(result, z0, 0, ring);
+        addInto(result, z1, half, ring);
+        addInto(result, z2, 2 * half, ring);
+        return result;
+    }
+
+    /**
+     * a method to square a coefficient list with about half the coefficient products of the schoolbook algorithm
+     * Example:
+     * (a0 + a1 x + a2 x^2)^2 = a0^2 + 2 a0 a1 x + (2 a0 a2 + a1^2) x^2 + 2 a1 a2 x^3 + a2^2 x^4
+     * @param a the coefficients of the polynomial
+     * @param ring the ring of the coefficients, whose product must be commutative
+     * @return the coefficients of the square
+     */
+    static <T> List<T> schoolbookSquare(List<T> a, Ring<T> ring) {
+        int n = a.size();
+        int productLength = productLength(n, n);
+        List<T> product_list = new ArrayList<>(productLength);
+
+        List<T> reversed = new ArrayList<>(a);
+        Collections.reverse(reversed);
+
+        for (int k = 0; k < productLength; k++) {
+            //the cross terms a[i] * a[k - i] with i < k - i, summed once and doubled
+            int from = Math.max(0, k - n + 1);
+            int to = Math.floorDiv(k - 1, 2);
+            T cross = ring.dot(a, from, reversed, n - 1 - k + from, Math.max(0, to - from + 1));
+            T coefficient = ring.sum(cross, cross);
+            if (k % 2 == 0) {
+                coefficient = ring.multiplyAdd(coefficient, a.get(k / 2), a.get(k / 2));
+            }
+            product_list.add(coefficient);
+        }
+        return product_list;
+    }
+
+    /**
+     * a method to multiply an operand by one at least twice its size
+     * the longer operand is cut into chunks as long as the shorter one, so every chunk product is balanced
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param ring the ring of the coefficients
+     * @param threshold the operand size below which the schoolbook algorithm is used
+     * @return the coefficients of the product
+     */
+    static <T> List<T> chunked(List<T> a, List<T> b, Ring<T> ring, int threshold) {
+        boolean aIsLonger = a.size() >= b.size();
+        List<T> longer = aIsLonger ? a : b;
+        int chunkSize = aIsLonger ? b.size() : a.size();
+
+        List<T> result = zeros(productLength(a.size(), b.size()), ring);
+        for (int start = 0; start < longer.size(); start += chunkSize) {
+            List<T> chunk = longer.subList(start, Math.min(start + chunkSize, longer.size()));
+
+            //keeping the operand order, in case the ring's product is not commutative
+            List<T> partial = aIsLonger ? karatsuba(chunk, b, ring, threshold) : karatsuba(a, chunk, ring, threshold);
+            addInto(result, partial, start, ring);
+        }
+        return result;
+    }
+
+    /**
+     * a method to add two coefficient lists, padding the shorter one with zeros
+     * @param a the first addend
+     * @param b the second addend
+     * @param ring the ring of the coefficients
+     * @return the sum
+     */
+    static <T> List<T> add(List<T> a, List<T> b, Ring<T> ring) {
+        return ring.vectorSum(a, b);
+    }
+
+    /**
+     * a method to subtract one coefficient list from another, padding the shorter one with zeros
+     * @param a the minuend
+     * @param b the subtrahend
+     * @param ring the ring of the coefficients, which must support negation
+     * @return the difference
+     */
+    static <T> List<T> subtract(List<T> a, List<T> b, Ring<T> ring) {
+        List<T> difference = new ArrayList<>(Math.max(a.size(), b.size()));
+        for (int i = 0; i < Math.max(a.size(), b.size()); i++) {
+            difference.add(ring.sum(coefficient(a, i, ring), ring.negate(coefficient(b, i, ring))));
+        }
+        return difference;
+    }
+
+    /**
+     * a method to add a coefficient list into a target list, starting at the given power of x
+     * terms that fall past the end of the target are dropped, since a correct product has zeros there
+     * @param target the list being accumulated into
+     * @param addend the list being added
+     * @param offset the power of x of the first addend term
+     * @param ring the ring of the coefficients
+     */
+    static <T> void addInto(List<T> target, List<T> addend, int offset, Ring<T> ring) {
+        int end = Math.min(addend.size(), target.size() - offset);
+        for (int i = 0; i < end; i++) {
+            target.set(offset + i, ring.sum(target.get(offset + i), addend.get(i)));
+        }
+    }
+
+    /**
+     * a method to create a mutable list of zeros
+     * @param length the length of the list
+     * @param ring the ring of the coefficients
+     * @return the list of zeros
+     */
+    static <T> List<T> zeros(int length, Ring<T> ring) {
+        return new ArrayList<>(Collections.nCopies(length, ring.zero()));
+    }
+
+    /**
+     * a helper method to compute the length of a product, handling the case where both polynomials are empty
+     * @param aLength the number of coefficients of the first polynomial
+     * @param bLength the number of coefficients of the second polynomial
+     * @return the number of coefficients of the product
+     */
+    static int productLength(int aLength, int bLength) {
+        if (aLength == 0 && bLength == 0) {
+            return 0;
+        }
+        return aLength + bLength - 1;
+    }
+
+    /**
+     * a helper method to return a coefficient, or zero past the end of the list
+     */
+    private static <T> T coefficient(List<T> list, int index, Ring<T> ring) {
+        return (index < list.size()) ? list.get(index) : ring.zero();
+    }
+
+    /**
+     * a helper method to return the terms below the given power of x
+     */
+    private static <T> List<T> low(List<T> list, int half) {
+        return list.subList(0, Math.min(half, list.size()));
+    }
+
+    /**
+     * a helper method to return the terms from the given power of x onwards
+     */
+    private static <T> List<T> high(List<T> list, int half) {
+        return list.subList(Math.min(half, list.size()), list.size());
+    }
+}
@@ -0,0 +1,367 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class representing a polynomial in several variables by its non-zero terms only
+ * each monomial is packed into a single long, the exponent of variable 0 in the highest field and every field
+ * 63 / variables bits wide, so comparing the longs orders the monomials lexicographically and adding them
+ * multiplies the monomials; the terms are then a sparse polynomial in the packed longs, which keeps them in
+ * sorted primitive arrays and multiplies them with Johnson's heap algorithm
+ */
+public final class MultivariatePolynomial<T> {
+
+    private final int variables; //the number of variables
+    private final SparsePolynomial<T> terms; //the terms, keyed by their packed monomials
+
+    /**
+     * a constructor for the MultivariatePolynomial class
+     * @param variables the number of variables
+     * @param terms the terms, keyed by their packed monomials
+     */
+    private MultivariatePolynomial(int variables, SparsePolynomial<T> terms) {
+        //null check
+        assert terms != null : "terms cannot be null";
+
+        this.variables = variables;
+        this.terms = terms;
+    }
+
+    /**
+     * a method to return a new polynomial with the given terms, in any order
+     * terms with the same monomial are added together and zero terms are dropped
+     * @param variables the number of variables, between 1 and 63
+     * @param exponents one array of variables exponents per term
+     * @param coefficients the coefficients of the terms
+     * @param ring the ring of the coefficients
+     * @return a new polynomial with the same terms
+     * @throws IllegalArgumentException if an exponent is negative or does not fit in its field
+     */
+    public static <S> MultivariatePolynomial<S> of(int variables, int[][] exponents, List<S> coefficients, Ring<S> ring) {
+        //null checks
+        Objects.requireNonNull(exponents, "exponents cannot be null");
+        Objects.requireNonNull(coefficients, "coefficients cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        checkVariables(variables);
+
+        long[] monomials = new long[exponents.length];
+        for (int i = 0; i < exponents.length; i++) {
+            monomials[i] = pack(variables, Objects.requireNonNull(exponents[i], "exponents cannot contain null"));
+        }
+        return new MultivariatePolynomial<>(variables, SparsePolynomial.of(monomials, coefficients, ring));
+    }
+
+    /**
+     * a method to return the polynomial consisting of a single variable
+     * @param variables the number of variables, between 1 and 63
+     * @param variable the index of the variable
+     * @param ring the ring of the coefficients
+     * @return a new polynomial equal to x_variable
+     */
+    public static <S> MultivariatePolynomial<S> variable(int variables, int variable, Ring<S> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+        checkVariables(variables);
+        Objects.checkIndex(variable, variables);
+
+        int[] exponents = new int[variables];
+        exponents[variable] = 1;
+        return of(variables, new int[][] {exponents}, List.of(ring.identity()), ring);
+    }
+
+    /**
+     * a method to return a constant polynomial
+     * @param variables the number of variables, between 1 and 63
+     * @param constant the constant
+     * @param ring the ring of the coefficients
+     * @return a new polynomial with the constant as its only term, or no term for zero
+     */
+    public static <S> MultivariatePolynomial<S> constant(int variables, S constant, Ring<S> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+        checkVariables(variables);
+
+        return new MultivariatePolynomial<>(variables, SparsePolynomial.of(new long[] {0}, List.of(constant), ring));
+    }
+
+    /**
+     * a method to convert a nested polynomial, as built by PolynomialRing.instance(PolynomialRing.instance(...)),
+     * into the flat form
+     * the outermost polynomial is in variable 0, its coefficients are polynomials in variable 1, and so on,
+     * the polynomials nested variables deep holding coefficients of the ring
+     * @param nested the nested polynomial
+     * @param variables the nesting depth, between 1 and 63
+     * @param ring the ring of the innermost coefficients
+     * @return a new polynomial with the same terms
+     * @throws ClassCastException if the polynomial is not nested variables deep
+     */
+    public static <S> MultivariatePolynomial<S> fromNested(WorkingPolynomial<?> nested, int variables, Ring<S> ring) {
+        //null checks
+        Objects.requireNonNull(nested, "nested cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        checkVariables(variables);
+
+        List<int[]> exponents = new ArrayList<>();
+        List<S> coefficients = new ArrayList<>();
+        flatten(nested, 0, new int[variables], exponents, coefficients, ring);
+        return of(variables, exponents.toArray(new int[0][]), coefficients, ring);
+    }
+
+    /**
+     * a helper method to walk a nested polynomial, collecting one term per innermost coefficient
+     */
+    private static <S> void flatten(WorkingPolynomial<?> nested, int variable, int[] exponents, List<int[]> allExponents,
+            List<S> coefficients, Ring<S> ring) {
+        List<?> view = nested.coefficientView();
+        for (int i = 0; i < view.size(); i++) {
+            exponents[variable] = i;
+            if (variable + 1 < exponents.length) {
+                flatten((WorkingPolynomial<?>) view.get(i), variable + 1, exponents, allExponents, coefficients, ring);
+            } else {
+                @SuppressWarnings("unchecked")
+                S coefficient = (S) view.get(i);
+                if (!ring.isZero(coefficient)) {
+                    allExponents.add(exponents.clone());
+                    coefficients.add(coefficient);
+                }
+            }
+        }
+        exponents[variable] = 0;
+    }
+
+    /**
+     * a getter method to return the number of variables
+     * @return the number of variables
+     */
+    public int getVariables() {
+        return variables;
+    }
+
+    /**
+     * a method to return the number of non-zero terms
+     * @return the number of terms
+     */
+    public int termCount() {
+        return terms.termCount();
+    }
+
+    /**
+     * a method to return the exponent of a variable in a term
+     * @param term the index of the term, between 0 and termCount() - 1, terms being in increasing lexicographic order
+     * @param variable the index of the variable
+     * @return the exponent
+     */
+    public int exponent(int term, int variable) {
+        Objects.checkIndex(variable, variables);
+        return (int) ((terms.exponent(term) >>> shift(variables, variable)) & mask(variables));
+    }
+
+    /**
+     * a method to return the exponents of a term
+     * @param term the index of the term, between 0 and termCount() - 1
+     * @return a new array with the exponent of every variable
+     */
+    public int[] exponents(int term) {
+        int[] exponents = new int[variables];
+        for (int v = 0; v < variables; v++) {
+            exponents[v] = exponent(term, v);
+        }
+        return exponents;
+    }
+
+    /**
+     * a method to return the coefficient of a term
+     * @param term the index of the term, between 0 and termCount() - 1
+     * @return the coefficient
+     */
+    public T coefficient(int term) {
+        return terms.coefficient(term);
+    }
+
+    /**
+     * a method to return the degree of the polynomial in one variable
+     * @param variable the index of the variable
+     * @return the largest exponent of the variable, or -1 for the zero polynomial
+     */
+    public int degree(int variable) {
+        Objects.checkIndex(variable, variables);
+        int degree = -1;
+        for (int i = 0; i < termCount(); i++) {
+            degree = Math.max(degree, exponent(i, variable));
+        }
+        return degree;
+    }
+
+    /**
+     * a method to return the total degree of the polynomial
+     * @return the largest sum of the exponents of a term, or -1 for the zero polynomial
+     */
+    public int totalDegree() {
+        int degree = -1;
+        for (int i = 0; i < termCount(); i++) {
+            int sum = 0;
+            for (int v = 0; v < variables; v++) {
+                sum += exponent(i, v);
+            }
+            degree = Math.max(degree, sum);
+        }
+        return degree;
+    }
+
+    /**
+     * overrides the toString method to print the polynomial's terms
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < termCount(); i++) {
+            builder.append((i == 0) ? "" : ", ").append(coefficient(i));
+            for (int v = 0; v < variables; v++) {
+                builder.append("x").append(v).append("^").append(exponent(i, v));
+            }
+        }
+        return "MultivariatePolynomial [variables=" + variables + ", terms=[" + builder + "]]";
+    }
+
+    /**
+     * overrides the equals method, two polynomials being equal when they have the same variables and terms
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MultivariatePolynomial)) {
+            return false;
+        }
+        MultivariatePolynomial<?> that = (MultivariatePolynomial<?>) other;
+        if (this.variables != that.variables || this.termCount() != that.termCount()) {
+            return false;
+        }
+        for (int i = 0; i < termCount(); i++) {
+            if (this.terms.exponent(i) != that.terms.exponent(i) || !this.coefficient(i).equals(that.coefficient(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * overrides the hashCode method with the hash of the monomials and coefficients
+     */
+    @Override
+    public int hashCode() {
+        int h = variables;
+        for (int i = 0; i < termCount(); i++) {
+            h = 31 * (31 * h + Long.hashCode(terms.exponent(i))) + coefficient(i).hashCode();
+        }
+        return h;
+    }
+
+    /**
+     * a method to add two polynomials together by merging their sorted terms
+     * @param other the other polynomial being added, in the same number of variables
+     * @param ring the ring of the polynomial
+     * @return the sum
+     */
+    public MultivariatePolynomial<T> plus(MultivariatePolynomial<T> other, Ring<T> ring) {
+        //null checks
+        Objects.requireNonNull(other, "the 'other' parameter cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+        requireSameVariables(other);
+
+        return new MultivariatePolynomial<>(variables, terms.plus(other.terms, ring));
+    }
+
+    /**
+     * a method to multiply two polynomials together with Johnson's heap algorithm over the packed monomials
+     * @param other the other polynomial, in the same number of variables
+     * @param ring the ring of the polynomial
+     * @return the product
+     * @throws ArithmeticException if an exponent of the product does not fit in its field
+     */
+    public MultivariatePolynomial<T> times(MultivariatePolynomial<T> other, Ring<T> ring) {
+        //null checks
+        Objects.requireNonNull(other, "the 'other' parameter cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+        requireSameVariables(other);
+
+        //adding packed monomials is only exact while no field carries into its neighbour
+        if (this.termCount() > 0 && other.termCount() > 0) {
+            for (int v = 0; v < variables; v++) {
+                if ((long) this.degree(v) + other.degree(v) > mask(variables)) {
+                    throw new ArithmeticException("the exponent of variable " + v + " overflows its " + bits(variables) + "-bit field");
+                }
+            }
+        }
+        return new MultivariatePolynomial<>(variables, terms.times(other.terms, ring));
+    }
+
+    /**
+     * a method to negate every term
+     * @param ring the ring of the polynomial, which must have negation
+     * @return the negated polynomial
+     */
+    MultivariatePolynomial<T> negate(Ring<T> ring) {
+        return new MultivariatePolynomial<>(variables, SparsePolynomialRing.instance(ring).negate(terms));
+    }
+
+    /**
+     * a helper method to check both operands have the same number of variables
+     */
+    private void requireSameVariables(MultivariatePolynomial<T> other) {
+        if (variables != other.variables) {
+            throw new IllegalArgumentException("the polynomials have " + variables + " and " + other.variables + " variables");
+        }
+    }
+
+    /**
+     * a helper method to check the number of variables fits in a packed monomial
+     */
+    static void checkVariables(int variables) {
+        if (variables < 1 || variables > 63) {
+            throw new IllegalArgumentException("variables must be between 1 and 63");
+        }
+    }
+
+    /**
+     * a helper method to pack exponents into a monomial
+     */
+    private static long pack(int variables, int[] exponents) {
+        if (exponents.length != variables) {
+            throw new IllegalArgumentException("every term needs " + variables + " exponents");
+        }
+        long monomial = 0;
+        for (int v = 0; v < variables; v++) {
+            if (exponents[v] < 0 || exponents[v] > mask(variables)) {
+                throw new IllegalArgumentException("exponents must be between 0 and " + mask(variables) + " for " + variables + " variables");
+            }
+            monomial |= (long) exponents[v] << shift(variables, v);
+        }
+        return monomial;
+    }
+
+    /**
+     * a helper method to return the width of an exponent field, leaving the sign bit clear
+     */
+    private static int bits(int variables) {
+        return 63 / variables;
+    }
+
+    /**
+     * a helper method to return the largest exponent a field holds
+     */
+    private static long mask(int variables) {
+        return Math.min((1L << bits(variables)) - 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * a helper method to return the position of the field of a variable, variable 0 being the highest
+     */
+    private static int shift(int variables, int variable) {
+        return bits(variables) * (variables - 1 - variable);
+    }
+}
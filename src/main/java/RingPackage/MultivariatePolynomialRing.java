@@ -0,0 +1,129 @@
+package RingPackage;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class to demonstrate the concept of Rings on polynomials in several variables, analogous to PolynomialRing
+ * unlike nesting PolynomialRing.instance(PolynomialRing.instance(...)), the terms stay in flat primitive arrays
+ */
+public final class MultivariatePolynomialRing<T> implements Ring<MultivariatePolynomial<T>> {
+
+    private final Ring<T> baseRing; //a private field storing the ring of the coefficients
+    private final int variables; //the number of variables
+
+    /**
+     * a constructor for the MultivariatePolynomialRing class
+     * @param ring the ring of the coefficients
+     * @param variables the number of variables
+     */
+    private MultivariatePolynomialRing(Ring<T> ring, int variables) {
+        //null check
+        assert ring != null : "ring cannot be null";
+
+        this.baseRing = ring;
+        this.variables = variables;
+    }
+
+    /**
+     * a static method to return a new multivariate polynomial ring
+     * @param <T> the type of the coefficients
+     * @param ring the ring of the coefficients
+     * @param variables the number of variables, between 1 and 63
+     * @return a new multivariate polynomial ring
+     */
+    public static <T> MultivariatePolynomialRing<T> instance(Ring<T> ring, int variables) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+        MultivariatePolynomial.checkVariables(variables);
+
+        return new MultivariatePolynomialRing<>(ring, variables);
+    }
+
+    /**
+     * a getter method to return the number of variables
+     * @return the number of variables
+     */
+    public int getVariables() {
+        return variables;
+    }
+
+    /**
+     * a method to return one of the variables of the ring
+     * @param variable the index of the variable
+     * @return the polynomial x_variable
+     */
+    public MultivariatePolynomial<T> variable(int variable) {
+        return MultivariatePolynomial.variable(variables, variable, baseRing);
+    }
+
+    /**
+     * a method to convert a nested polynomial of the same depth into this ring
+     * @param nested a polynomial built by nesting PolynomialRing once per variable, outermost in variable 0
+     * @return the same polynomial in the flat form
+     */
+    public MultivariatePolynomial<T> fromNested(WorkingPolynomial<?> nested) {
+        return MultivariatePolynomial.fromNested(nested, variables, baseRing);
+    }
+
+    /**
+     * overriding the zero method
+     */
+    @Override
+    public MultivariatePolynomial<T> zero() {
+        return MultivariatePolynomial.of(variables, new int[0][], List.of(), baseRing);
+    }
+
+    /**
+     * overriding the identity method
+     */
+    @Override
+    public MultivariatePolynomial<T> identity() {
+        return MultivariatePolynomial.constant(variables, baseRing.identity(), baseRing);
+    }
+
+    /**
+     * overriding the sum method
+     */
+    @Override
+    public MultivariatePolynomial<T> sum(MultivariatePolynomial<T> x, MultivariatePolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.plus(y, baseRing);
+    }
+
+    /**
+     * overriding the product method
+     */
+    @Override
+    public MultivariatePolynomial<T> product(MultivariatePolynomial<T> x, MultivariatePolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.times(y, baseRing);
+    }
+
+    /**
+     * overriding the hasNegation method
+     * polynomials can be negated whenever their coefficients can
+     */
+    @Override
+    public boolean hasNegation() {
+        return baseRing.hasNegation();
+    }
+
+    /**
+     * overriding the negate method by negating every term
+     */
+    @Override
+    public MultivariatePolynomial<T> negate(MultivariatePolynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.negate(baseRing);
+    }
+}
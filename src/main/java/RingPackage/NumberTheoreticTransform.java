@@ -0,0 +1,249 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * @author Vidyut Veedgav
+ * a helper class multiplying polynomials modulo a prime with the number-theoretic transform
+ * the roots of unity are computed once per prime and transform size and then shared by every caller
+ */
+final class NumberTheoreticTransform {
+
+    //the cached tables, keyed by prime and then by the base 2 logarithm of the transform size
+    private static final ConcurrentMap<Long, ConcurrentMap<Integer, Roots>> ROOTS = new ConcurrentHashMap<>();
+
+    //the cached primitive roots of each prime
+    private static final ConcurrentMap<Long, Long> GENERATORS = new ConcurrentHashMap<>();
+
+    /**
+     * a private constructor, the class only has static methods
+     */
+    private NumberTheoreticTransform() {
+    }
+
+    /**
+     * a class holding the powers of a primitive root of unity for one transform size
+     */
+    private static final class Roots {
+        private final long[] forward; //w^0, w^1, ..., w^(n/2 - 1)
+        private final long[] inverse; //w^0, w^-1, ..., w^-(n/2 - 1)
+        private final long sizeInverse; //n^-1, which scales the inverse transform
+
+        private Roots(long[] forward, long[] inverse, long sizeInverse) {
+            this.forward = forward;
+            this.inverse = inverse;
+            this.sizeInverse = sizeInverse;
+        }
+    }
+
+    /**
+     * a method to tell whether products of the given length can be computed modulo the prime
+     * the prime must have a root of unity whose order is the next power of two above the length
+     * @param prime the modulus
+     * @param productLength the number of coefficients of the product
+     * @return true if the transform applies
+     */
+    static boolean supports(long prime, int productLength) {
+        int size = transformSize(productLength);
+        return size > 0 && (prime - 1) % size == 0;
+    }
+
+    /**
+     * a method to multiply two non-empty arrays of residues modulo the prime
+     * @param a the coefficients of the first polynomial, reduced modulo the prime
+     * @param b the coefficients of the second polynomial, reduced modulo the prime
+     * @param prime the modulus, which must support the product length
+     * @return the coefficients of the product
+     */
+    static long[] multiply(long[] a, long[] b, long prime) {
+        assert a.length > 0 && b.length > 0 : "operands cannot be empty";
+
+        int productLength = a.length + b.length - 1;
+        int size = transformSize(productLength);
+        assert supports(prime, productLength) : "the prime does not support this size";
+
+        Roots roots = roots(prime, Integer.numberOfTrailingZeros(size));
+        long[] fa = Arrays.copyOf(a, size);
+        long[] fb = Arrays.copyOf(b, size);
+        transform(fa, roots.forward, prime);
+        transform(fb, roots.forward, prime);
+        for (int i = 0; i < size; i++) {
+            fa[i] = fa[i] * fb[i] % prime;
+        }
+        return inverse(fa, productLength, roots, prime);
+    }
+
+    /**
+     * a method to square a non-empty array of residues modulo the prime, with one forward transform
+     * @param a the coefficients of the polynomial, reduced modulo the prime
+     * @param prime the modulus, which must support the square's length
+     * @return the coefficients of the square
+     */
+    static long[] square(long[] a, long prime) {
+        assert a.length > 0 : "the operand cannot be empty";
+
+        int productLength = 2 * a.length - 1;
+        int size = transformSize(productLength);
+        assert supports(prime, productLength) : "the prime does not support this size";
+
+        Roots roots = roots(prime, Integer.numberOfTrailingZeros(size));
+        long[] fa = Arrays.copyOf(a, size);
+        transform(fa, roots.forward, prime);
+        for (int i = 0; i < size; i++) {
+            fa[i] = fa[i] * fa[i] % prime;
+        }
+        return inverse(fa, productLength, roots, prime);
+    }
+
+    /**
+     * a helper method to run the inverse transform in place and keep the scaled first coefficients
+     */
+    private static long[] inverse(long[] values, int productLength, Roots roots, long prime) {
+        transform(values, roots.inverse, prime);
+
+        long[] product = new long[productLength];
+        for (int i = 0; i < productLength; i++) {
+            product[i] = values[i] * roots.sizeInverse % prime;
+        }
+        return product;
+    }
+
+    /**
+     * a helper method to run an in-place iterative radix-2 transform
+     * @param values the values being transformed, whose length is a power of two
+     * @param roots the powers of the root of unity for this length
+     * @param prime the modulus
+     */
+    private static void transform(long[] values, long[] roots, long prime) {
+        int n = values.length;
+
+        //reordering the values into bit-reversed index order
+        for (int i = 1, j = 0; i < n; i++) {
+            int bit = n >> 1;
+            for (; (j & bit) != 0; bit >>= 1) {
+                j ^= bit;
+            }
+            j ^= bit;
+            if (i < j) {
+                long swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+
+        //combining butterflies of doubling length
+        for (int length = 2; length <= n; length <<= 1) {
+            int halfLength = length >> 1;
+            int step = n / length;
+            for (int start = 0; start < n; start += length) {
+                for (int k = 0; k < halfLength; k++) {
+                    long u = values[start + k];
+                    long v = values[start + k + halfLength] * roots[k * step] % prime;
+                    values[start + k] = (u + v < prime) ? u + v : u + v - prime;
+                    values[start + k + halfLength] = (u - v >= 0) ? u - v : u - v + prime;
+                }
+            }
+        }
+    }
+
+    /**
+     * a helper method to return the cached root tables of a prime and size, computing them once
+     * @param prime the modulus
+     * @param log the base 2 logarithm of the transform size
+     * @return the root tables
+     */
+    private static Roots roots(long prime, int log) {
+        return ROOTS.computeIfAbsent(prime, p -> new ConcurrentHashMap<>())
+                .computeIfAbsent(log, l -> computeRoots(prime, l));
+    }
+
+    /**
+     * a helper method to compute the root tables of a prime and size
+     */
+    private static Roots computeRoots(long prime, int log) {
+        int size = 1 << log;
+        long generator = GENERATORS.computeIfAbsent(prime, NumberTheoreticTransform::primitiveRoot);
+        long root = power(generator, (prime - 1) / size, prime);
+        long rootInverse = power(root, prime - 2, prime);
+
+        long[] forward = new long[Math.max(1, size / 2)];
+        long[] inverse = new long[forward.length];
+        forward[0] = 1;
+        inverse[0] = 1;
+        for (int i = 1; i < forward.length; i++) {
+            forward[i] = forward[i - 1] * root % prime;
+            inverse[i] = inverse[i - 1] * rootInverse % prime;
+        }
+        return new Roots(forward, inverse, power(size, prime - 2, prime));
+    }
+
+    /**
+     * a helper method to find the smallest primitive root of a prime
+     * g is a primitive root when g^((p - 1) / q) != 1 for every prime factor q of p - 1
+     */
+    private static long primitiveRoot(long prime) {
+        long order = prime - 1;
+        List<Long> factors = new ArrayList<>();
+        long rest = order;
+        for (long q = 2; q * q <= rest; q++) {
+            if (rest % q == 0) {
+                factors.add(q);
+                while (rest % q == 0) {
+                    rest /= q;
+                }
+            }
+        }
+        if (rest > 1) {
+            factors.add(rest);
+        }
+
+        for (long candidate = 2; candidate < prime; candidate++) {
+            boolean primitive = true;
+            for (long factor : factors) {
+                if (power(candidate, order / factor, prime) == 1) {
+                    primitive = false;
+                    break;
+                }
+            }
+            if (primitive) {
+                return candidate;
+            }
+        }
+        return 1; //only reached for the prime 2, whose only unit is 1
+    }
+
+    /**
+     * a method to compute base^exponent modulo the prime by repeated squaring
+     * @param base the base, reduced modulo the prime
+     * @param exponent the non-negative exponent
+     * @param prime the modulus
+     * @return the power
+     */
+    static long power(long base, long exponent, long prime) {
+        long result = 1 % prime;
+        long square = base % prime;
+        while (exponent > 0) {
+            if ((exponent & 1) == 1) {
+                result = result * square % prime;
+            }
+            square = square * square % prime;
+            exponent >>= 1;
+        }
+        return result;
+    }
+
+    /**
+     * a helper method to compute the power of two the transform runs on, which is not positive if it would overflow
+     */
+    private static int transformSize(int productLength) {
+        int size = Integer.highestOneBit(Math.max(1, productLength));
+        if (size < productLength) {
+            size <<= 1;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,459 @@
+package RingPackage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author Vidyut Veedgav
+ * a class multiplying and adding polynomials stored by PolynomialStorage without loading them into the heap
+ * the operands must use the fixed encoding of the IntegerRing or of the same ModularRing, and so is the result
+ * every file is mapped once per call, in windows of at most 1 GiB, operands read-only and the sized result read-write;
+ * operands are cut into blocks of k coefficients copied out of those mappings, and the block products are visited one
+ * anti-diagonal i + j = d at a time: once diagonal d is done, output block d is final and is stored into the mapped
+ * result, so only about 2k coefficients are ever carried over
+ * the next pair of blocks is read on another thread while the current one is multiplied
+ */
+public final class OutOfCorePolynomials {
+
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20; //the default number of heap bytes the blocks may use
+
+    private static final int BYTES_PER_COEFFICIENT = 96; //the heap bytes one block coefficient costs across buffers and scratch
+    private static final int MINIMUM_BLOCK_SIZE = 16; //the smallest block, whatever the budget
+    private static final int MAXIMUM_WINDOW_SIZE = 1 << 28; //the most coefficients one mapping covers, 1 GiB
+
+    private final int blockSize; //the number of coefficients per block
+    private final Executor prefetchExecutor; //the executor reading the next blocks, or null for a private thread per call
+
+    /**
+     * a constructor for the OutOfCorePolynomials class
+     * @param blockSize the number of coefficients per block
+     * @param prefetchExecutor the executor reading the next blocks, or null
+     */
+    private OutOfCorePolynomials(int blockSize, Executor prefetchExecutor) {
+        this.blockSize = blockSize;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * a static method to return a new out-of-core engine whose blocks fit in the given number of heap bytes
+     * a block of k coefficients costs about 96 k bytes: the current and the prefetched operand blocks,
+     * the carried output, and the scratch of the block product
+     * @param memoryBudget the number of heap bytes the blocks may use
+     * @return a new engine
+     */
+    public static OutOfCorePolynomials withMemoryBudget(long memoryBudget) {
+        if (memoryBudget < (long) MINIMUM_BLOCK_SIZE * BYTES_PER_COEFFICIENT) {
+            throw new IllegalArgumentException("memoryBudget must be at least " + MINIMUM_BLOCK_SIZE * BYTES_PER_COEFFICIENT + " bytes");
+        }
+
+        //keeping the block a power of two, which the block products handle best
+        long coefficients = Math.min(memoryBudget / BYTES_PER_COEFFICIENT, 1 << 26);
+        return new OutOfCorePolynomials(Integer.highestOneBit((int) coefficients), null);
+    }
+
+    /**
+     * a method to return an engine with the same blocks that reads ahead on the given executor
+     * @param executor the executor reading the next blocks
+     * @return a new engine
+     */
+    public OutOfCorePolynomials withPrefetchExecutor(Executor executor) {
+        //null check
+        Objects.requireNonNull(executor, "executor cannot be null");
+
+        return new OutOfCorePolynomials(blockSize, executor);
+    }
+
+    /**
+     * a getter method to return the number of coefficients per block
+     * @return the block size
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * a method to multiply two stored polynomials into a new file
+     * @param a the file of the first polynomial
+     * @param b the file of the second polynomial
+     * @param result the file receiving the product, replaced if it exists
+     * @throws IOException if a file cannot be read or written, or the operands are not compatible
+     * @throws ArithmeticException if the product has more coefficients than the format can hold
+     */
+    public void multiply(Path a, Path b, Path result) throws IOException {
+        //null checks
+        Objects.requireNonNull(a, "a cannot be null");
+        Objects.requireNonNull(b, "b cannot be null");
+        Objects.requireNonNull(result, "result cannot be null");
+
+        try (Operand x = Operand.open(a, blockSize); Operand y = Operand.open(b, blockSize);
+                FileChannel output = FileChannel.open(result, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            x.requireCompatible(y);
+            //the same length rule as Multiplication.productLength, widened so it cannot overflow
+            long length = (x.size == 0 && y.size == 0) ? 0 : (long) x.size + y.size - 1;
+            if (length > Integer.MAX_VALUE) {
+                throw new ArithmeticException("the product has too many coefficients to be stored");
+            }
+            output.write(PolynomialStorage.header(x.ringType, PolynomialStorage.Encoding.FIXED, (int) length, x.modulus), 0);
+            Mapping mapped = Mapping.map(output, FileChannel.MapMode.READ_WRITE, length, blockSize);
+            if (x.size == 0 || y.size == 0) {
+                //an empty operand gives a product of zeros
+                long[] zeros = new long[blockSize];
+                for (long start = 0; start < length; start += blockSize) {
+                    writeBlock(mapped, x, start, zeros, (int) Math.min(blockSize, length - start));
+                }
+                return;
+            }
+
+            int xBlocks = blockCount(x.size);
+            int yBlocks = blockCount(y.size);
+            long[] carry = new long[2 * blockSize]; //output coefficients from d * k onwards
+
+            runWithPrefetch(executor -> {
+                CompletableFuture<int[][]> next = readPair(x, y, 0, 0, executor);
+                for (int d = 0; d <= xBlocks + yBlocks - 2; d++) {
+                    int first = Math.max(0, d - yBlocks + 1);
+                    int last = Math.min(d, xBlocks - 1);
+                    for (int i = first; i <= last; i++) {
+                        int[][] blocks = await(next);
+
+                        //starting to read the following pair before multiplying this one
+                        int ni = (i < last) ? i + 1 : Math.max(0, d + 1 - yBlocks + 1);
+                        int nd = (i < last) ? d : d + 1;
+                        next = (nd <= xBlocks + yBlocks - 2) ? readPair(x, y, ni, nd - ni, executor) : null;
+
+                        accumulate(carry, x.blockProduct(blocks[0], blocks[1]), x);
+                    }
+
+                    //diagonal d is done, so output block d is final
+                    long start = (long) d * blockSize;
+                    int count = (int) Math.min(blockSize, length - start);
+                    writeBlock(mapped, x, start, carry, count);
+                    System.arraycopy(carry, blockSize, carry, 0, blockSize);
+                    Arrays.fill(carry, blockSize, 2 * blockSize, 0);
+                }
+
+                //the last block products reach one block past the last diagonal
+                long start = (long) (xBlocks + yBlocks - 1) * blockSize;
+                if (start < length) {
+                    writeBlock(mapped, x, start, carry, (int) (length - start));
+                }
+            });
+        }
+    }
+
+    /**
+     * a method to add two stored polynomials into a new file, one block at a time
+     * @param a the file of the first polynomial
+     * @param b the file of the second polynomial
+     * @param result the file receiving the sum, replaced if it exists
+     * @throws IOException if a file cannot be read or written, or the operands are not compatible
+     */
+    public void add(Path a, Path b, Path result) throws IOException {
+        //null checks
+        Objects.requireNonNull(a, "a cannot be null");
+        Objects.requireNonNull(b, "b cannot be null");
+        Objects.requireNonNull(result, "result cannot be null");
+
+        try (Operand x = Operand.open(a, blockSize); Operand y = Operand.open(b, blockSize);
+                FileChannel output = FileChannel.open(result, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            x.requireCompatible(y);
+            int length = Math.max(x.size, y.size);
+            output.write(PolynomialStorage.header(x.ringType, PolynomialStorage.Encoding.FIXED, length, x.modulus), 0);
+            Mapping mapped = Mapping.map(output, FileChannel.MapMode.READ_WRITE, length, blockSize);
+
+            int blocks = blockCount(length);
+            long[] sum = new long[blockSize];
+            runWithPrefetch(executor -> {
+                CompletableFuture<int[][]> next = (blocks > 0) ? readPair(x, y, 0, 0, executor) : null;
+                for (int i = 0; i < blocks; i++) {
+                    int[][] pair = await(next);
+                    next = (i + 1 < blocks) ? readPair(x, y, i + 1, i + 1, executor) : null;
+
+                    Arrays.fill(sum, 0);
+                    for (int[] block : pair) {
+                        for (int t = 0; t < block.length; t++) {
+                            sum[t] = x.add(sum[t], block[t]);
+                        }
+                    }
+                    long start = (long) i * blockSize;
+                    writeBlock(mapped, x, start, sum, (int) Math.min(blockSize, length - start));
+                }
+            });
+        }
+    }
+
+    /**
+     * a helper method to add a block product into the carried output, which starts where the product does
+     */
+    private static void accumulate(long[] carry, long[] product, Operand ring) {
+        for (int t = 0; t < product.length; t++) {
+            carry[t] = ring.add(carry[t], product[t]);
+        }
+    }
+
+    /**
+     * a helper method to store finished coefficients into the mapped result
+     */
+    private static void writeBlock(Mapping output, Operand ring, long start, long[] values, int count) {
+        MappedByteBuffer window = output.window(start);
+        int offset = output.offset(start);
+        for (int t = 0; t < count; t++) {
+            window.putInt(offset + 4 * t, ring.store(values[t]));
+        }
+    }
+
+    /**
+     * a helper method to start reading block i of x and block j of y, a block past the end being empty
+     */
+    private CompletableFuture<int[][]> readPair(Operand x, Operand y, int i, int j, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> new int[][] {x.block(i, blockSize), y.block(j, blockSize)}, executor);
+    }
+
+    /**
+     * a helper method to wait for a prefetched pair of blocks
+     */
+    private static int[][] await(CompletableFuture<int[][]> pending) throws IOException {
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while reading a block");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("failed to read a block", e.getCause());
+        }
+    }
+
+    /**
+     * a helper method to run a block loop with the configured executor, or a private reader thread
+     */
+    private void runWithPrefetch(BlockLoop loop) throws IOException {
+        if (prefetchExecutor != null) {
+            loop.run(prefetchExecutor);
+            return;
+        }
+        ExecutorService reader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "polynomial-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            loop.run(reader);
+        } finally {
+            reader.shutdownNow();
+        }
+    }
+
+    /**
+     * a helper method to return the number of blocks covering the given number of coefficients
+     */
+    private int blockCount(long size) {
+        return (int) ((size + blockSize - 1) / blockSize);
+    }
+
+    /**
+     * a block loop run against the executor reading the blocks
+     */
+    private interface BlockLoop {
+        void run(Executor executor) throws IOException;
+    }
+
+    /**
+     * a helper class holding the coefficients of a file mapped once, in windows of whole blocks
+     * a block never straddles two windows, and the absolute gets and puts leave the windows' positions alone,
+     * so the prefetch thread and the multiplying thread can share them
+     */
+    private static final class Mapping {
+
+        private final MappedByteBuffer[] windows; //the mapped windows, in file order
+        private final int windowSize; //the number of coefficients per window, a multiple of the block size
+
+        private Mapping(MappedByteBuffer[] windows, int windowSize) {
+            this.windows = windows;
+            this.windowSize = windowSize;
+        }
+
+        /**
+         * a method to map the coefficients following the header of a file
+         * mapping read-write past the end of the file grows it, so this also sizes a new result file
+         * @param channel the open file
+         * @param mode the mapping mode
+         * @param size the number of coefficients
+         * @param blockSize the block size, which the windows must be a multiple of
+         * @return the mapped coefficients
+         */
+        private static Mapping map(FileChannel channel, FileChannel.MapMode mode, long size, int blockSize) throws IOException {
+            int windowSize = (MAXIMUM_WINDOW_SIZE / blockSize) * blockSize;
+            MappedByteBuffer[] windows = new MappedByteBuffer[(int) ((size + windowSize - 1) / windowSize)];
+            for (int w = 0; w < windows.length; w++) {
+                long start = (long) w * windowSize;
+                long count = Math.min(windowSize, size - start);
+                windows[w] = channel.map(mode, PolynomialStorage.HEADER_SIZE + 4 * start, 4 * count);
+                windows[w].order(ByteOrder.LITTLE_ENDIAN);
+            }
+            return new Mapping(windows, windowSize);
+        }
+
+        /**
+         * a method to return the window holding a coefficient
+         */
+        private MappedByteBuffer window(long index) {
+            return windows[(int) (index / windowSize)];
+        }
+
+        /**
+         * a method to return the byte offset of a coefficient within its window
+         */
+        private int offset(long index) {
+            return 4 * (int) (index % windowSize);
+        }
+    }
+
+    /**
+     * a helper class holding an open operand file, its header and the arithmetic of its ring
+     */
+    private static final class Operand implements AutoCloseable {
+
+        private final FileChannel channel; //the open file
+        private final PolynomialStorage.RingType ringType; //the ring of the coefficients
+        private final int size; //the number of coefficients
+        private final long modulus; //the modulus of a modular ring, 0 otherwise
+        private final Mapping coefficients; //the coefficients, mapped read-only
+
+        private Operand(FileChannel channel, PolynomialStorage.RingType ringType, int size, long modulus, Mapping coefficients) {
+            this.channel = channel;
+            this.ringType = ringType;
+            this.size = size;
+            this.modulus = modulus;
+            this.coefficients = coefficients;
+        }
+
+        /**
+         * a method to open a stored polynomial, check its header and map its coefficients
+         */
+        private static Operand open(Path path, int blockSize) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                ByteBuffer header = ByteBuffer.allocate(PolynomialStorage.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+                while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                    //reading until the header is complete or the file ends
+                }
+                if (header.hasRemaining() || header.getInt(0) != PolynomialStorage.MAGIC || header.get(4) != PolynomialStorage.VERSION) {
+                    throw new IOException(path + " is not a stored polynomial");
+                }
+                int ring = header.get(5);
+                int size = header.getInt(8);
+                if (header.get(6) != PolynomialStorage.Encoding.FIXED.ordinal()
+                        || (ring != PolynomialStorage.RingType.INTEGER.ordinal() && ring != PolynomialStorage.RingType.MODULAR.ordinal())) {
+                    throw new IOException(path + " must hold fixed INTEGER or MODULAR coefficients");
+                }
+                if (size < 0 || channel.size() < PolynomialStorage.HEADER_SIZE + 4L * size) {
+                    throw new IOException(path + " is truncated");
+                }
+                return new Operand(channel, PolynomialStorage.RingType.values()[ring], size, header.getLong(12),
+                        Mapping.map(channel, FileChannel.MapMode.READ_ONLY, size, blockSize));
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        /**
+         * a method to check two operands belong to the same ring
+         */
+        private void requireCompatible(Operand other) throws IOException {
+            if (ringType != other.ringType || modulus != other.modulus) {
+                throw new IOException("the operands were stored from different rings");
+            }
+        }
+
+        /**
+         * a method to copy one block out of the mapped coefficients, a block past the end being empty
+         */
+        private int[] block(int index, int blockSize) {
+            long start = (long) index * blockSize;
+            int count = (int) Math.max(0, Math.min(blockSize, size - start));
+            int[] values = new int[count];
+            if (count > 0) {
+                MappedByteBuffer window = coefficients.window(start);
+                int offset = coefficients.offset(start);
+                for (int t = 0; t < count; t++) {
+                    values[t] = window.getInt(offset + 4 * t);
+                }
+            }
+            return values;
+        }
+
+        /**
+         * a method to multiply two blocks in memory, with the same arithmetic as the ring's polynomial product
+         */
+        private long[] blockProduct(int[] a, int[] b) {
+            if (a.length == 0 || b.length == 0) {
+                return new long[0];
+            }
+            if (ringType == PolynomialStorage.RingType.INTEGER) {
+                int[] product = IntPolynomial.of(a).times(IntPolynomial.of(b)).getCoefficients();
+                long[] widened = new long[product.length];
+                for (int t = 0; t < product.length; t++) {
+                    widened[t] = product[t];
+                }
+                return widened;
+            }
+
+            long[] x = new long[a.length];
+            long[] y = new long[b.length];
+            for (int t = 0; t < a.length; t++) {
+                x[t] = Math.floorMod(a[t], modulus);
+            }
+            for (int t = 0; t < b.length; t++) {
+                y[t] = Math.floorMod(b[t], modulus);
+            }
+            if (NumberTheoreticTransform.supports(modulus, a.length + b.length - 1)) {
+                return NumberTheoreticTransform.multiply(x, y, modulus);
+            }
+            long[] product = new long[a.length + b.length - 1];
+            for (int s = 0; s < x.length; s++) {
+                for (int t = 0; t < y.length; t++) {
+                    product[s + t] = (product[s + t] + x[s] * y[t]) % modulus;
+                }
+            }
+            return product;
+        }
+
+        /**
+         * a method to add two coefficients, wrapping like int arithmetic or reducing modulo the prime
+         */
+        private long add(long x, long y) {
+            return (ringType == PolynomialStorage.RingType.INTEGER) ? (int) (x + y) : Math.floorMod(x + y, modulus);
+        }
+
+        /**
+         * a method to turn an accumulated coefficient into its stored int
+         */
+        private int store(long value) {
+            return (int) value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package RingPackage;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * @author Vidyut Veedgav
+ * a helper class multiplying large polynomials on a fork/join pool
+ * the operands are split until they are shorter than the threshold, and every piece is then multiplied
+ * sequentially by the ring's own polynomialProduct, so exact rings get the same result as the sequential path
+ */
+final class ParallelMultiplication {
+
+    private static final int ADD_GRAIN = 4096; //the number of coefficients one task sums before splitting further
+
+    /**
+     * a private constructor, the class only has static methods
+     */
+    private ParallelMultiplication() {
+    }
+
+    /**
+     * a method to multiply two coefficient lists on the given pool
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param ring the ring of the coefficients
+     * @param pool the pool running the tasks
+     * @param threshold the operand size below which pieces are multiplied sequentially, at least 2
+     * @return the coefficients of the product
+     */
+    static <T> List<T> multiply(List<T> a, List<T> b, Ring<T> ring, ForkJoinPool pool, int threshold) {
+        assert pool != null : "pool cannot be null";
+        assert threshold >= 2 : "threshold must be at least 2";
+
+        return pool.invoke(new ProductTask<>(a, b, ring, threshold));
+    }
+
+    /**
+     * a task computing one product, which forks the sub-products of a Karatsuba step
+     * or, without negation or for unbalanced operands, the products of both halves of the longer operand
+     */
+    private static final class ProductTask<T> extends RecursiveTask<List<T>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> a; //the coefficients of the first polynomial
+        private final List<T> b; //the coefficients of the second polynomial
+        private final Ring<T> ring; //the ring of the coefficients
+        private final int threshold; //the operand size below which the product is sequential
+
+        private ProductTask(List<T> a, List<T> b, Ring<T> ring, int threshold) {
+            this.a = a;
+            this.b = b;
+            this.ring = ring;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected List<T> compute() {
+            int small = Math.min(a.size(), b.size());
+            int large = Math.max(a.size(), b.size());
+
+            if (small < threshold) {
+                return ring.polynomialProduct(WorkingPolynomial.wrap(a), WorkingPolynomial.wrap(b)).coefficientView();
+            }
+            if (2 * small <= large || !ring.hasNegation()) {
+                return splitLonger();
+            }
+            return karatsuba();
+        }
+
+        /**
+         * a helper method to multiply both halves of the longer operand in parallel
+         */
+        private List<T> splitLonger() {
+            boolean aIsLonger = a.size() >= b.size();
+            List<T> longer = aIsLonger ? a : b;
+            int split = longer.size() / 2;
+            List<T> low = longer.subList(0, split);
+            List<T> high = longer.subList(split, longer.size());
+
+            //keeping the operand order, in case the ring's product is not commutative
+            ProductTask<T> lowTask = aIsLonger ? new ProductTask<>(low, b, ring, threshold) : new ProductTask<>(a, low, ring, threshold);
+            ProductTask<T> highTask = aIsLonger ? new ProductTask<>(high, b, ring, threshold) : new ProductTask<>(a, high, ring, threshold);
+            highTask.fork();
+            List<T> lowProduct = lowTask.compute();
+            List<T> highProduct = highTask.join();
+
+            //the two halves overlap in the result, so they are added one after the other
+            List<T> result = Multiplication.zeros(a.size() + b.size() - 1, ring);
+            new AddTask<>(result, lowProduct, 0, ring, 0, result.size()).compute();
+            new AddTask<>(result, highProduct, split, ring, 0, result.size()).compute();
+            return result;
+        }
+
+        /**
+         * a helper method running one Karatsuba step with the three sub-products in parallel
+         */
+        private List<T> karatsuba() {
+            int half = (Math.max(a.size(), b.size()) + 1) / 2;
+            List<T> a0 = a.subList(0, Math.min(half, a.size()));
+            List<T> a1 = a.subList(Math.min(half, a.size()), a.size());
+            List<T> b0 = b.subList(0, Math.min(half, b.size()));
+            List<T> b1 = b.subList(Math.min(half, b.size()), b.size());
+
+            ProductTask<T> lowTask = new ProductTask<>(a0, b0, ring, threshold);
+            ProductTask<T> highTask = (a1.isEmpty() || b1.isEmpty()) ? null : new ProductTask<>(a1, b1, ring, threshold);
+            lowTask.fork();
+            if (highTask != null) {
+                highTask.fork();
+            }
+            List<T> z1 = new ProductTask<>(Multiplication.add(a0, a1, ring), Multiplication.add(b0, b1, ring), ring, threshold).compute();
+            List<T> z0 = lowTask.join();
+            List<T> z2 = (highTask == null) ? List.of() : highTask.join();
+
+            //z1 - z0 - z2 is formed first so the combination matches the sequential Karatsuba step
+            List<T> middle = Multiplication.subtract(Multiplication.subtract(z1, z0, ring), z2, ring);
+            List<T> result = Multiplication.zeros(a.size() + b.size() - 1, ring);
+            new AddTask<>(result, z0, 0, ring, 0, result.size()).compute();
+            new AddTask<>(result, middle, half, ring, 0, result.size()).compute();
+            new AddTask<>(result, z2, 2 * half, ring, 0, result.size()).compute();
+            return result;
+        }
+    }
+
+    /**
+     * a task adding a shifted addend into a range of the target list, splitting large ranges in parallel
+     * tasks write disjoint indices of a list whose size never changes, so no locking is needed
+     */
+    private static final class AddTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> target; //the list being accumulated into
+        private final List<T> addend; //the list being added
+        private final int offset; //the power of x of the first addend term
+        private final Ring<T> ring; //the ring of the coefficients
+        private final int from; //the first target index of this task
+        private final int to; //one past the last target index of this task
+
+        private AddTask(List<T> target, List<T> addend, int offset, Ring<T> ring, int from, int to) {
+            this.target = target;
+            this.addend = addend;
+            this.offset = offset;
+            this.ring = ring;
+            this.from = Math.max(from, offset);
+            this.to = Math.min(to, offset + addend.size());
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ADD_GRAIN) {
+                for (int i = from; i < to; i++) {
+                    target.set(i, ring.sum(target.get(i), addend.get(i - offset)));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new AddTask<>(target, addend, offset, ring, from, middle),
+                    new AddTask<>(target, addend, offset, ring, middle, to));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class accumulating polynomials in place, so a long sum grows one buffer instead of creating a polynomial per step
+ * an accumulator is not thread-safe, and is obtained from PolynomialRing.accumulator()
+ */
+public final class PolynomialAccumulator<T> {
+
+    private final Ring<T> ring; //the ring of the coefficients
+    private List<T> buffer; //the coefficients accumulated so far
+
+    /**
+     * a constructor for the PolynomialAccumulator class, starting from the zero polynomial
+     * @param ring the ring of the coefficients
+     */
+    PolynomialAccumulator(Ring<T> ring) {
+        //null check
+        assert ring != null : "ring cannot be null";
+
+        this.ring = ring;
+        this.buffer = new ArrayList<>();
+    }
+
+    /**
+     * a method to add a polynomial into the accumulator
+     * @param polynomial the polynomial being added
+     * @return this accumulator
+     */
+    public PolynomialAccumulator<T> addInPlace(WorkingPolynomial<T> polynomial) {
+        //null check
+        Objects.requireNonNull(polynomial, "polynomial cannot be null");
+
+        int common = Math.min(buffer.size(), polynomial.degree() + 1);
+        for (int i = 0; i < common; i++) {
+            buffer.set(i, ring.sum(buffer.get(i), polynomial.coefficient(i)));
+        }
+        for (int i = common; i <= polynomial.degree(); i++) {
+            buffer.add(polynomial.coefficient(i));
+        }
+        return this;
+    }
+
+    /**
+     * a method to add scalar * polynomial into the accumulator, without creating the scaled polynomial
+     * @param scalar the factor of every coefficient, as the left factor
+     * @param polynomial the polynomial being scaled and added
+     * @return this accumulator
+     */
+    public PolynomialAccumulator<T> addScaled(T scalar, WorkingPolynomial<T> polynomial) {
+        //null checks
+        Objects.requireNonNull(scalar, "scalar cannot be null");
+        Objects.requireNonNull(polynomial, "polynomial cannot be null");
+
+        grow(polynomial.degree() + 1);
+        for (int i = 0; i <= polynomial.degree(); i++) {
+            buffer.set(i, ring.multiplyAdd(buffer.get(i), scalar, polynomial.coefficient(i)));
+        }
+        return this;
+    }
+
+    /**
+     * a method to add the product a * b into the accumulator
+     * short operands are multiplied term by term straight into the buffer,
+     * longer ones are multiplied by the ring's own polynomialProduct first, which is asymptotically faster
+     * @param a the first factor
+     * @param b the second factor
+     * @return this accumulator
+     */
+    public PolynomialAccumulator<T> addProductOf(WorkingPolynomial<T> a, WorkingPolynomial<T> b) {
+        //null checks
+        Objects.requireNonNull(a, "a cannot be null");
+        Objects.requireNonNull(b, "b cannot be null");
+
+        if (Math.min(a.degree(), b.degree()) + 1 >= WorkingPolynomial.DEFAULT_KARATSUBA_THRESHOLD) {
+            return addInPlace(ring.polynomialProduct(a, b));
+        }
+
+        grow(Multiplication.productLength(a.degree() + 1, b.degree() + 1));
+        for (int i = 0; i <= a.degree(); i++) {
+            T aTerm = a.coefficient(i);
+            for (int j = 0; j <= b.degree(); j++) {
+                buffer.set(i + j, ring.multiplyAdd(buffer.get(i + j), aTerm, b.coefficient(j)));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * a method to return the accumulated polynomial and reset the accumulator to zero
+     * the buffer is handed over to the polynomial without being copied
+     * @return the sum of everything added since the last build
+     */
+    public WorkingPolynomial<T> build() {
+        WorkingPolynomial<T> result = WorkingPolynomial.wrap(buffer);
+        buffer = new ArrayList<>();
+        return result;
+    }
+
+    /**
+     * a helper method to pad the buffer with zeros up to the given length
+     */
+    private void grow(int length) {
+        while (buffer.size() < length) {
+            buffer.add(ring.zero());
+        }
+    }
+}
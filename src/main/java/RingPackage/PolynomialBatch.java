@@ -0,0 +1,215 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Vidyut Veedgav
+ * a class tracking a batch of independent polynomial operations running on an executor
+ * results can be taken one at a time as they complete, or all at once in the order of the inputs
+ * polynomials never change once built, so the operations share their operands without any locking
+ */
+public final class PolynomialBatch<T> {
+
+    private final ExecutorCompletionService<Completion<T>> completions; //the operations in the order they complete
+    private final List<Future<Completion<T>>> futures; //the operations in the order of the inputs
+    private final AtomicInteger reserved = new AtomicInteger(); //the number of completions taken or being waited for
+
+    /**
+     * a constructor for the PolynomialBatch class
+     * @param completions the completion service the operations were submitted to
+     * @param futures the operations in the order of the inputs
+     */
+    private PolynomialBatch(ExecutorCompletionService<Completion<T>> completions, List<Future<Completion<T>>> futures) {
+        this.completions = completions;
+        this.futures = futures;
+    }
+
+    /**
+     * a method to submit a batch of operations, ordered by their estimated cost
+     * the most expensive operation starts first, so it cannot become a long tail at the end of the batch,
+     * and the others follow from the cheapest up, so small operations are not queued behind large ones
+     * @param operations the operations, in the order of the inputs
+     * @param costs the estimated cost of each operation
+     * @param executor the executor running the operations
+     * @return a new batch tracking the operations
+     */
+    static <T> PolynomialBatch<T> submit(List<Callable<WorkingPolynomial<T>>> operations, long[] costs, Executor executor) {
+        assert operations.size() == costs.length : "every operation needs a cost";
+
+        Integer[] order = new Integer[costs.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> costs[i]));
+        if (order.length > 1) {
+            Collections.rotate(Arrays.asList(order), 1);
+        }
+
+        ExecutorCompletionService<Completion<T>> completions = new ExecutorCompletionService<>(executor);
+        List<Future<Completion<T>>> futures = new ArrayList<>(Collections.nCopies(order.length, null));
+        try {
+            for (int index : order) {
+                Callable<WorkingPolynomial<T>> operation = operations.get(index);
+                futures.set(index, completions.submit(() -> new Completion<>(index, operation.call())));
+            }
+        } catch (RejectedExecutionException e) {
+            for (Future<Completion<T>> future : futures) {
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+            throw e;
+        }
+        return new PolynomialBatch<>(completions, futures);
+    }
+
+    /**
+     * a method to return the number of operations in the batch
+     * @return the batch size
+     */
+    public int size() {
+        return futures.size();
+    }
+
+    /**
+     * a method to wait for the next operation to complete
+     * @return the next completed operation, with the index of its input
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if the operation failed
+     * @throws NoSuchElementException if every completion was already taken
+     */
+    public Completion<T> take() throws InterruptedException, ExecutionException {
+        if (!reserve()) {
+            throw new NoSuchElementException("every completion was already taken");
+        }
+        Future<Completion<T>> next;
+        try {
+            next = completions.take();
+        } catch (InterruptedException e) {
+            reserved.decrementAndGet();
+            throw e;
+        }
+        //the future is done, so get only reports its outcome, which counts as handing the completion out
+        return next.get();
+    }
+
+    /**
+     * a method to wait a limited time for the next operation to complete
+     * @param timeout the longest time to wait
+     * @param unit the unit of the timeout
+     * @return the next completed operation, or null if none completed in time or every completion was taken
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if the operation failed
+     */
+    public Completion<T> poll(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException {
+        if (!reserve()) {
+            return null;
+        }
+        Future<Completion<T>> next = null;
+        try {
+            next = completions.poll(timeout, unit);
+        } finally {
+            if (next == null) {
+                reserved.decrementAndGet();
+            }
+        }
+        return (next == null) ? null : next.get();
+    }
+
+    /**
+     * a helper method to reserve one of the completions not yet taken, without ever blocking
+     * a reservation is released if no completion is dequeued for it, so none is counted without being handed out
+     * @return true if a completion was reserved, false if every one is taken or waited for
+     */
+    private boolean reserve() {
+        while (true) {
+            int current = reserved.get();
+            if (current == futures.size()) {
+                return false;
+            }
+            if (reserved.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * a method to wait for every operation and return the results in the order of the inputs
+     * @return the results
+     * @throws InterruptedException if interrupted while waiting
+     * @throws ExecutionException if an operation failed
+     */
+    public List<WorkingPolynomial<T>> awaitAll() throws InterruptedException, ExecutionException {
+        List<WorkingPolynomial<T>> results = new ArrayList<>(futures.size());
+        for (Future<Completion<T>> future : futures) {
+            results.add(future.get().getResult());
+        }
+        return results;
+    }
+
+    /**
+     * a method to cancel every operation that has not completed yet
+     * queued operations never start, and running ones are interrupted, though a product in progress runs to its end
+     */
+    public void cancel() {
+        for (Future<Completion<T>> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * a method to tell whether every operation completed, failed or was cancelled
+     * @return true if nothing is pending
+     */
+    public boolean isDone() {
+        for (Future<Completion<T>> future : futures) {
+            if (!future.isDone()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * a class holding the result of one completed operation and the index of its input
+     */
+    public static final class Completion<T> {
+
+        private final int index; //the index of the input
+        private final WorkingPolynomial<T> result; //the result
+
+        private Completion(int index, WorkingPolynomial<T> result) {
+            this.index = index;
+            this.result = result;
+        }
+
+        /**
+         * a getter method to return the index of the input
+         * @return the index
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * a getter method to return the result
+         * @return the result
+         */
+        public WorkingPolynomial<T> getResult() {
+            return result;
+        }
+    }
+}
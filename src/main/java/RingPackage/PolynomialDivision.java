@@ -0,0 +1,280 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author Vidyut Veedgav
+ * a helper class holding the polynomial division and gcd algorithms on coefficient lists
+ */
+final class PolynomialDivision {
+
+    private static final int NEWTON_THRESHOLD = 64; //the quotient and divisor size from which division uses Newton inversion
+
+    private static final int HALF_GCD_THRESHOLD = 128; //the operand size from which gcd uses the half-gcd recursion
+
+    /**
+     * a private constructor, the class only has static methods
+     */
+    private PolynomialDivision() {
+    }
+
+    /**
+     * a method to divide two coefficient lists, a = q * b + r with r shorter than b
+     * the leading coefficient of b must be invertible, which is always the case for a monic divisor
+     * large divisions use Newton inversion of the reversed divisor, whose cost follows the ring's fast product,
+     * smaller ones use the schoolbook algorithm
+     * @param a the coefficients of the dividend
+     * @param b the coefficients of the divisor, whose trailing zeros are ignored
+     * @param ring the ring of the coefficients, which must support negation
+     * @return the quotient and the remainder, whose length is the degree of the divisor
+     * @throws ArithmeticException if the divisor is zero or its leading coefficient has no inverse
+     */
+    static <T> QuotientRemainder<T> divRem(List<T> a, List<T> b, Ring<T> ring) {
+        List<T> divisor = stripped(b, ring);
+        if (divisor.isEmpty()) {
+            throw new ArithmeticException("division by the zero polynomial");
+        }
+        if (a.size() < divisor.size()) {
+            //the dividend is its own remainder, padded with zeros to the length of every other remainder
+            List<T> remainder = new ArrayList<>(a);
+            remainder.addAll(Multiplication.zeros(divisor.size() - 1 - a.size(), ring));
+            return new QuotientRemainder<>(WorkingPolynomial.wrap(new ArrayList<>()), WorkingPolynomial.wrap(remainder));
+        }
+
+        int quotientLength = a.size() - divisor.size() + 1;
+        if (Math.min(quotientLength, divisor.size()) < NEWTON_THRESHOLD) {
+            return schoolbook(a, divisor, ring);
+        }
+        return newton(a, divisor, ring);
+    }
+
+    /**
+     * a method to compute the monic greatest common divisor of two coefficient lists
+     * the Euclidean algorithm takes a division per remainder, so large operands run the half-gcd recursion instead,
+     * which jumps over half of the remainder sequence with two recursive calls on the top coefficients
+     * @param a the coefficients of the first polynomial
+     * @param b the coefficients of the second polynomial
+     * @param ring the ring of the coefficients, which must be a field
+     * @return the coefficients of the monic gcd, empty if both polynomials are zero
+     */
+    static <T> List<T> gcd(List<T> a, List<T> b, Ring<T> ring) {
+        List<T> x = stripped(a, ring);
+        List<T> y = stripped(b, ring);
+        if (x.size() < y.size()) {
+            List<T> swap = x;
+            x = y;
+            y = swap;
+        }
+
+        while (!y.isEmpty()) {
+            if (x.size() >= HALF_GCD_THRESHOLD && y.size() < x.size() && 2 * degree(y) > degree(x)) {
+                Matrix<T> step = halfGcd(x, y, ring);
+                List<T> nextX = step.applyFirst(x, y);
+                y = step.applySecond(x, y);
+                x = nextX;
+            } else {
+                List<T> remainder = stripped(divRem(x, y, ring).getRemainder().coefficientView(), ring);
+                x = y;
+                y = remainder;
+            }
+        }
+        if (x.isEmpty()) {
+            return x;
+        }
+        return ring.vectorScale(leadingInverse(x, ring), x);
+    }
+
+    /**
+     * a helper method to divide with the schoolbook algorithm, cancelling the leading term from the top down
+     */
+    private static <T> QuotientRemainder<T> schoolbook(List<T> a, List<T> b, Ring<T> ring) {
+        T inverse = leadingInverse(b, ring);
+        int degree = b.size() - 1;
+
+        List<T> quotient = Multiplication.zeros(a.size() - degree, ring);
+        List<T> remainder = new ArrayList<>(a);
+        for (int i = remainder.size() - 1; i >= degree; i--) {
+            T factor = ring.product(remainder.get(i), inverse);
+            quotient.set(i - degree, factor);
+
+            T negated = ring.negate(factor);
+            remainder.set(i, ring.zero());
+            for (int j = 0; j < degree; j++) {
+                remainder.set(i - degree + j, ring.multiplyAdd(remainder.get(i - degree + j), negated, b.get(j)));
+            }
+        }
+        return new QuotientRemainder<>(WorkingPolynomial.wrap(quotient),
+                WorkingPolynomial.wrap(new ArrayList<>(remainder.subList(0, degree))));
+    }
+
+    /**
+     * a helper method to divide with Newton inversion
+     * reversing the coefficients turns the quotient into the first k terms of rev(a) / rev(b),
+     * and the remainder only needs the low terms of a - q * b
+     */
+    private static <T> QuotientRemainder<T> newton(List<T> a, List<T> b, Ring<T> ring) {
+        int quotientLength = a.size() - b.size() + 1;
+        int degree = b.size() - 1;
+
+        WorkingPolynomial<T> divisorInverse = WorkingPolynomial.wrap(reversed(b)).inverseSeries(quotientLength, ring);
+        List<T> quotient = WorkingPolynomial.wrap(reversed(a)).timesTruncated(divisorInverse, quotientLength, ring).getCoefficients();
+        Collections.reverse(quotient);
+
+        List<T> product = WorkingPolynomial.wrap(quotient).timesTruncated(WorkingPolynomial.wrap(b), degree, ring).coefficientView();
+        List<T> remainder = Multiplication.subtract(a.subList(0, degree), product, ring);
+        return new QuotientRemainder<>(WorkingPolynomial.wrap(quotient), WorkingPolynomial.wrap(remainder));
+    }
+
+    /**
+     * a helper method computing the matrix that takes (a, b) half way down their remainder sequence
+     * for deg a > deg b and m = ceil(deg a / 2), the result maps (a, b) to consecutive remainders (c, d)
+     * with deg c >= m > deg d, and the quotients involved only depend on the coefficients from x^m up
+     */
+    private static <T> Matrix<T> halfGcd(List<T> a, List<T> b, Ring<T> ring) {
+        int m = (degree(a) + 1) / 2;
+        if (degree(b) < m) {
+            return Matrix.identity(ring);
+        }
+
+        //the first half of the sequence, from the top coefficients of a and b
+        Matrix<T> first = halfGcd(shifted(a, m), shifted(b, m), ring);
+        List<T> c = first.applyFirst(a, b);
+        List<T> d = first.applySecond(a, b);
+        if (degree(d) < m) {
+            return first;
+        }
+
+        //one plain division step, then the second half from the top coefficients of the new pair
+        QuotientRemainder<T> division = divRem(c, d, ring);
+        List<T> e = stripped(division.getRemainder().coefficientView(), ring);
+        int k = 2 * m - degree(d);
+        Matrix<T> second = halfGcd(shifted(d, k), shifted(e, k), ring);
+
+        Matrix<T> step = new Matrix<>(List.of(), List.of(ring.identity()),
+                List.of(ring.identity()), negated(stripped(division.getQuotient().coefficientView(), ring), ring), ring);
+        return second.times(step.times(first));
+    }
+
+    /**
+     * a helper class holding a 2 x 2 matrix of polynomials, acting on pairs of polynomials
+     */
+    private static final class Matrix<T> {
+
+        private final List<T> m00; //the top left entry
+        private final List<T> m01; //the top right entry
+        private final List<T> m10; //the bottom left entry
+        private final List<T> m11; //the bottom right entry
+        private final Ring<T> ring; //the ring of the coefficients
+
+        private Matrix(List<T> m00, List<T> m01, List<T> m10, List<T> m11, Ring<T> ring) {
+            this.m00 = m00;
+            this.m01 = m01;
+            this.m10 = m10;
+            this.m11 = m11;
+            this.ring = ring;
+        }
+
+        /**
+         * a method to return the identity matrix
+         */
+        private static <T> Matrix<T> identity(Ring<T> ring) {
+            return new Matrix<>(List.of(ring.identity()), List.of(), List.of(), List.of(ring.identity()), ring);
+        }
+
+        /**
+         * a method to return the first entry of the matrix applied to (a, b)
+         */
+        private List<T> applyFirst(List<T> a, List<T> b) {
+            return sum(product(m00, a, ring), product(m01, b, ring), ring);
+        }
+
+        /**
+         * a method to return the second entry of the matrix applied to (a, b)
+         */
+        private List<T> applySecond(List<T> a, List<T> b) {
+            return sum(product(m10, a, ring), product(m11, b, ring), ring);
+        }
+
+        /**
+         * a method to multiply this matrix by another, this one being applied last
+         */
+        private Matrix<T> times(Matrix<T> other) {
+            return new Matrix<>(
+                    sum(product(m00, other.m00, ring), product(m01, other.m10, ring), ring),
+                    sum(product(m00, other.m01, ring), product(m01, other.m11, ring), ring),
+                    sum(product(m10, other.m00, ring), product(m11, other.m10, ring), ring),
+                    sum(product(m10, other.m01, ring), product(m11, other.m11, ring), ring),
+                    ring);
+        }
+    }
+
+    /**
+     * a helper method to multiply two coefficient lists with the ring's fastest product, without trailing zeros
+     */
+    private static <T> List<T> product(List<T> a, List<T> b, Ring<T> ring) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return List.of();
+        }
+        return stripped(ring.polynomialProduct(WorkingPolynomial.wrap(a), WorkingPolynomial.wrap(b)).coefficientView(), ring);
+    }
+
+    /**
+     * a helper method to add two coefficient lists, without trailing zeros
+     */
+    private static <T> List<T> sum(List<T> a, List<T> b, Ring<T> ring) {
+        return stripped(ring.vectorSum(a, b), ring);
+    }
+
+    /**
+     * a helper method to negate every coefficient of a list
+     */
+    private static <T> List<T> negated(List<T> a, Ring<T> ring) {
+        List<T> result = new ArrayList<>(a);
+        result.replaceAll(ring::negate);
+        return result;
+    }
+
+    /**
+     * a helper method to drop the coefficients below x^k, which divides by x^k and discards the remainder
+     */
+    private static <T> List<T> shifted(List<T> a, int k) {
+        return a.subList(Math.min(k, a.size()), a.size());
+    }
+
+    /**
+     * a helper method to return a copy of a coefficient list without its trailing zeros
+     */
+    private static <T> List<T> stripped(List<T> a, Ring<T> ring) {
+        int size = a.size();
+        while (size > 0 && ring.isZero(a.get(size - 1))) {
+            size--;
+        }
+        return new ArrayList<>(a.subList(0, size));
+    }
+
+    /**
+     * a helper method to return a copy of a coefficient list in reverse order
+     */
+    private static <T> List<T> reversed(List<T> a) {
+        List<T> result = new ArrayList<>(a);
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * a helper method to return the degree of a list without trailing zeros, -1 for the zero polynomial
+     */
+    private static int degree(List<?> a) {
+        return a.size() - 1;
+    }
+
+    /**
+     * a helper method to invert the leading coefficient, which needs no inversion for a monic polynomial
+     */
+    private static <T> T leadingInverse(List<T> a, Ring<T> ring) {
+        T leading = a.get(a.size() - 1);
+        return ring.identity().equals(leading) ? leading : ring.inverse(leading);
+    }
+}
@@ -0,0 +1,34 @@
+package RingPackage;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * @author Vidyut Veedgav
+ * a JDK Flight Recorder event for one polynomial operation of an InstrumentedRing
+ * the event is disabled unless a recording enables it, and a disabled event is never committed
+ */
+@Name("RingPackage.PolynomialOperation")
+@Label("Polynomial Operation")
+@Category({"RingPackage"})
+@Description("A polynomial product or square run through an InstrumentedRing")
+final class PolynomialOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation; //the name of the operation
+
+    @Label("Algorithm")
+    String algorithm; //the algorithm the decorated ring chose
+
+    @Label("First Degree")
+    int xDegree; //the degree of the first operand
+
+    @Label("Second Degree")
+    int yDegree; //the degree of the second operand
+
+    @Label("Result Degree")
+    int resultDegree; //the degree of the result
+}
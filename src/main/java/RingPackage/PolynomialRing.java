@@ -1,7 +1,12 @@
 package RingPackage;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * @author Vidyut Veedgav
@@ -11,15 +16,23 @@ public final class PolynomialRing<T> implements Ring<WorkingPolynomial<T>> {
 
     private Ring<T> baseRing; //a private field storing a ring 
 
+    private final ForkJoinPool pool; //the pool running parallel products, or null for sequential products
+
+    private final int parallelThreshold; //the operand size from which products run on the pool
+
     /**
      * a constructor for the PolynomialRing class
      * @param ring
+     * @param pool the pool running parallel products, or null
+     * @param parallelThreshold the operand size from which products run on the pool
      */
-    private PolynomialRing(Ring<T> ring) {
+    private PolynomialRing(Ring<T> ring, ForkJoinPool pool, int parallelThreshold) {
         //null check
         assert ring != null : "ring cannot be null";
 
         this.baseRing = ring;
+        this.pool = pool;
+        this.parallelThreshold = parallelThreshold;
     }
 
     /**
@@ -31,7 +44,138 @@ public final class PolynomialRing<T> implements Ring<WorkingPolynomial<T>> {
         //null check
         Objects.requireNonNull(ring, "ring cannot be null");
 
-        return new PolynomialRing<>(ring);
+        return new PolynomialRing<>(ring, null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * a method to return a polynomial ring over the same base ring that multiplies large operands in parallel
+     * operands are split until they are shorter than the threshold, and the pieces run on the given pool,
+     * so a pool with fewer workers than cores keeps big products from taking over a shared server
+     * the pieces use the base ring's own product, so exact rings give the same result as the sequential path
+     * @param pool the pool running the products
+     * @param parallelThreshold the operand size from which products run on the pool, at least 2
+     * @return a new polynomial ring with parallel products
+     */
+    public PolynomialRing<T> withParallelism(ForkJoinPool pool, int parallelThreshold) {
+        //null check
+        Objects.requireNonNull(pool, "pool cannot be null");
+        if (parallelThreshold < 2) {
+            throw new IllegalArgumentException("parallelThreshold must be at least 2");
+        }
+
+        return new PolynomialRing<>(baseRing, pool, parallelThreshold);
+    }
+
+    /**
+     * a method to return an empty accumulator, which sums polynomials of this ring in place
+     * @return a new accumulator holding the zero polynomial
+     */
+    public PolynomialAccumulator<T> accumulator() {
+        return new PolynomialAccumulator<>(baseRing);
+    }
+
+    /**
+     * a method to multiply many independent pairs of polynomials on an executor
+     * each pair runs as one task through product, so large pairs still use the pool of withParallelism;
+     * a bounded pool caps the cores the batch takes, and on JDK 21 a virtual thread per task executor works as well
+     * @param pairs the pairs of polynomials being multiplied
+     * @param executor the executor running the products
+     * @return a batch streaming the products as they complete
+     */
+    public PolynomialBatch<T> productAll(List<? extends Map.Entry<WorkingPolynomial<T>, WorkingPolynomial<T>>> pairs, Executor executor) {
+        //null checks
+        Objects.requireNonNull(pairs, "pairs cannot be null");
+        Objects.requireNonNull(executor, "executor cannot be null");
+
+        List<Callable<WorkingPolynomial<T>>> operations = new ArrayList<>(pairs.size());
+        long[] costs = new long[pairs.size()];
+        for (int i = 0; i < costs.length; i++) {
+            WorkingPolynomial<T> x = Objects.requireNonNull(pairs.get(i).getKey(), "pairs cannot contain null");
+            WorkingPolynomial<T> y = Objects.requireNonNull(pairs.get(i).getValue(), "pairs cannot contain null");
+            operations.add(() -> product(x, y));
+            costs[i] = (long) (x.degree() + 1) * (y.degree() + 1);
+        }
+        return PolynomialBatch.submit(operations, costs, executor);
+    }
+
+    /**
+     * a method to add many independent pairs of polynomials on an executor
+     * @param pairs the pairs of polynomials being added
+     * @param executor the executor running the sums
+     * @return a batch streaming the sums as they complete
+     */
+    public PolynomialBatch<T> sumAll(List<? extends Map.Entry<WorkingPolynomial<T>, WorkingPolynomial<T>>> pairs, Executor executor) {
+        //null checks
+        Objects.requireNonNull(pairs, "pairs cannot be null");
+        Objects.requireNonNull(executor, "executor cannot be null");
+
+        List<Callable<WorkingPolynomial<T>>> operations = new ArrayList<>(pairs.size());
+        long[] costs = new long[pairs.size()];
+        for (int i = 0; i < costs.length; i++) {
+            WorkingPolynomial<T> x = Objects.requireNonNull(pairs.get(i).getKey(), "pairs cannot contain null");
+            WorkingPolynomial<T> y = Objects.requireNonNull(pairs.get(i).getValue(), "pairs cannot contain null");
+            operations.add(() -> sum(x, y));
+            costs[i] = Math.max(x.degree(), y.degree()) + 1;
+        }
+        return PolynomialBatch.submit(operations, costs, executor);
+    }
+
+    /**
+     * a method to divide one polynomial by another with remainder
+     * @param x the dividend
+     * @param y the divisor, whose leading coefficient must be invertible in the base ring
+     * @return the quotient and the remainder
+     */
+    public QuotientRemainder<T> divRem(WorkingPolynomial<T> x, WorkingPolynomial<T> y) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.divRem(y, baseRing);
+    }
+
+    /**
+     * a method to compute the monic greatest common divisor of two polynomials, over a base ring that is a field
+     * @param x the first polynomial
+     * @param y the second polynomial
+     * @return the monic gcd
+     */
+    public WorkingPolynomial<T> gcd(WorkingPolynomial<T> x, WorkingPolynomial<T> y) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.gcd(y, baseRing);
+    }
+
+    /**
+     * a method to return the ring of power series over the same base ring, cut at the given precision
+     * @param precision the number of coefficients every series keeps, at least 0
+     * @return a new power series ring
+     */
+    public PowerSeriesRing<T> powerSeries(int precision) {
+        return PowerSeriesRing.instance(baseRing, precision);
+    }
+
+    /**
+     * a method to raise a polynomial to a power by repeated squaring, with the base ring's fastest squaring
+     * @param x the polynomial
+     * @param exponent the non-negative exponent
+     * @return the power
+     */
+    public WorkingPolynomial<T> pow(WorkingPolynomial<T> x, int exponent) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.pow(exponent, baseRing);
+    }
+
+    /**
+     * a method to return a ladder caching the repeated squares of a polynomial,
+     * for raising the same polynomial to many different exponents
+     * @param base the polynomial
+     * @return a new power ladder over the base ring
+     */
+    public PowerLadder<T> powerLadder(WorkingPolynomial<T> base) {
+        return PowerLadder.of(base, baseRing);
     }
 
     /**
@@ -64,6 +208,8 @@ public final class PolynomialRing<T> implements Ring<WorkingPolynomial<T>> {
 
     /**
      * overriding the product method
+     * the base ring picks the multiplication algorithm, e.g. the IntegerRing multiplies on primitive ints
+     * large operands run on the pool instead when the ring was created by withParallelism
      */
     @Override
     public WorkingPolynomial<T> product(WorkingPolynomial<T> x, WorkingPolynomial<T> y) {
@@ -71,7 +217,32 @@ public final class PolynomialRing<T> implements Ring<WorkingPolynomial<T>> {
         Objects.requireNonNull(x, "x cannot be null");
         Objects.requireNonNull(y, "y cannot be null");
 
-        return x.times(y, baseRing);
+        if (pool != null && Math.min(x.degree(), y.degree()) + 1 >= parallelThreshold) {
+            return WorkingPolynomial.wrap(ParallelMultiplication.multiply(x.coefficientView(), y.coefficientView(), baseRing, pool, parallelThreshold));
+        }
+        return baseRing.polynomialProduct(x, y);
+    }
+
+    /**
+     * overriding the hasNegation method
+     * polynomials can be negated whenever their coefficients can
+     */
+    @Override
+    public boolean hasNegation() {
+        return baseRing.hasNegation();
+    }
+
+    /**
+     * overriding the negate method by negating every coefficient
+     */
+    @Override
+    public WorkingPolynomial<T> negate(WorkingPolynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        List<T> coefficients = x.getCoefficients();
+        coefficients.replaceAll(baseRing::negate);
+        return WorkingPolynomial.wrap(coefficients);
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,249 @@
+package RingPackage;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class writing polynomials in a compact binary format and mapping stored polynomials back as read-only views
+ * the format is little-endian: a 20 byte header followed by the coefficients
+ *   magic "RPOL" (4 bytes), version (1), ring type (1), encoding (1), reserved (1),
+ *   number of coefficients (4), modulus of a modular ring or 0 (8)
+ * fixed coefficients take 4 bytes each, so they can be read in place, while varint coefficients take 1 to 5 bytes
+ * each (zigzag encoded for signed integers) and are decoded once; BigIntegers are always a varint byte length
+ * followed by their two's complement bytes
+ */
+public final class PolynomialStorage {
+
+    static final int MAGIC = 0x4C4F5052; //"RPOL" read as a little-endian int
+    static final byte VERSION = 1; //the version of the format
+    static final int HEADER_SIZE = 20; //the number of header bytes before the coefficients
+
+    private static final int BUFFER_SIZE = 1 << 16; //the number of bytes written to the channel at a time
+
+    /**
+     * the rings whose polynomials can be stored, which decide how coefficients are read back
+     */
+    public enum RingType {
+        INTEGER, MODULAR, BIG_INTEGER
+    }
+
+    /**
+     * the ways coefficients can be laid out
+     */
+    public enum Encoding {
+        /** 4 bytes per coefficient, readable in place */
+        FIXED,
+        /** 1 to 5 bytes per coefficient for small values, decoded when read */
+        VARINT
+    }
+
+    /**
+     * a private constructor, the class only has static methods
+     */
+    private PolynomialStorage() {
+    }
+
+    /**
+     * a method to write a polynomial over the IntegerRing
+     * @param polynomial the polynomial
+     * @param encoding the layout of the coefficients
+     * @param channel the channel receiving the bytes, which is left open
+     * @throws IOException if the channel fails
+     */
+    public static void writeIntegers(WorkingPolynomial<Integer> polynomial, Encoding encoding, WritableByteChannel channel) throws IOException {
+        //null checks
+        Objects.requireNonNull(polynomial, "polynomial cannot be null");
+        Objects.requireNonNull(encoding, "encoding cannot be null");
+        Objects.requireNonNull(channel, "channel cannot be null");
+
+        Output output = new Output(channel);
+        output.header(RingType.INTEGER, encoding, polynomial.degree() + 1, 0);
+        for (int i = 0; i <= polynomial.degree(); i++) {
+            int value = polynomial.coefficient(i);
+            if (encoding == Encoding.FIXED) {
+                output.fixed(value);
+            } else {
+                output.varint((value << 1) ^ (value >> 31));
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * a method to write a polynomial over a ModularRing, together with its modulus
+     * residues are below 2^31, so they fit the 4 byte fixed width
+     * @param polynomial the polynomial
+     * @param ring the ring of the polynomial, whose modulus is stored
+     * @param encoding the layout of the coefficients
+     * @param channel the channel receiving the bytes, which is left open
+     * @throws IOException if the channel fails
+     */
+    public static void writeModular(WorkingPolynomial<Long> polynomial, ModularRing ring, Encoding encoding, WritableByteChannel channel) throws IOException {
+        //null checks
+        Objects.requireNonNull(polynomial, "polynomial cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        Objects.requireNonNull(encoding, "encoding cannot be null");
+        Objects.requireNonNull(channel, "channel cannot be null");
+
+        Output output = new Output(channel);
+        output.header(RingType.MODULAR, encoding, polynomial.degree() + 1, ring.getModulus());
+        for (int i = 0; i <= polynomial.degree(); i++) {
+            int residue = (int) Math.floorMod(polynomial.coefficient(i), ring.getModulus());
+            if (encoding == Encoding.FIXED) {
+                output.fixed(residue);
+            } else {
+                output.varint(residue);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * a method to write a polynomial over the BigIntegerRing, whose coefficients are always length-prefixed
+     * @param polynomial the polynomial
+     * @param channel the channel receiving the bytes, which is left open
+     * @throws IOException if the channel fails
+     */
+    public static void writeBigIntegers(WorkingPolynomial<BigInteger> polynomial, WritableByteChannel channel) throws IOException {
+        //null checks
+        Objects.requireNonNull(polynomial, "polynomial cannot be null");
+        Objects.requireNonNull(channel, "channel cannot be null");
+
+        Output output = new Output(channel);
+        output.header(RingType.BIG_INTEGER, Encoding.VARINT, polynomial.degree() + 1, 0);
+        for (int i = 0; i <= polynomial.degree(); i++) {
+            byte[] bytes = polynomial.coefficient(i).toByteArray();
+            output.varint(bytes.length);
+            output.bytes(bytes);
+        }
+        output.flush();
+    }
+
+    /**
+     * a method to map a stored polynomial into memory as a read-only view
+     * the mapping stays valid after the file channel is closed; the file must not change while the view is used
+     * @param path the file holding one polynomial
+     * @return a view over the mapped bytes
+     * @throws IOException if the file cannot be read or is not a stored polynomial
+     */
+    public static PolynomialView map(Path path) throws IOException {
+        //null check
+        Objects.requireNonNull(path, "path cannot be null");
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return PolynomialView.of(buffer);
+        }
+    }
+
+    /**
+     * a method to read a stored polynomial from a buffer, from its position onwards, without copying it
+     * @param buffer the bytes of a stored polynomial
+     * @return a view over the bytes
+     * @throws IOException if the bytes are not a stored polynomial
+     */
+    public static PolynomialView read(ByteBuffer buffer) throws IOException {
+        //null check
+        Objects.requireNonNull(buffer, "buffer cannot be null");
+
+        return PolynomialView.of(buffer);
+    }
+
+    /**
+     * a method to encode a header
+     * @param ringType the ring of the polynomial
+     * @param encoding the layout of the coefficients
+     * @param count the number of coefficients
+     * @param modulus the modulus of a modular ring, or 0
+     * @return a new little-endian buffer holding the header, ready to be read
+     */
+    static ByteBuffer header(RingType ringType, Encoding encoding, int count, long modulus) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).put(VERSION).put((byte) ringType.ordinal()).put((byte) encoding.ordinal()).put((byte) 0);
+        header.putInt(count).putLong(modulus);
+        return header.flip();
+    }
+
+    /**
+     * a helper class filling a buffer and draining it into the channel whenever it is full
+     */
+    private static final class Output {
+
+        private final WritableByteChannel channel; //the channel receiving the bytes
+        private final ByteBuffer buffer; //the bytes not written yet
+
+        private Output(WritableByteChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        /**
+         * a method to write the header
+         */
+        private void header(RingType ringType, Encoding encoding, int count, long modulus) throws IOException {
+            ensure(HEADER_SIZE);
+            buffer.put(PolynomialStorage.header(ringType, encoding, count, modulus));
+        }
+
+        /**
+         * a method to write a 4 byte value
+         */
+        private void fixed(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        /**
+         * a method to write an unsigned value in 7 bit groups, low groups first
+         */
+        private void varint(int value) throws IOException {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        /**
+         * a method to write raw bytes
+         */
+        private void bytes(byte[] bytes) throws IOException {
+            for (int offset = 0; offset < bytes.length; ) {
+                ensure(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        /**
+         * a method to make room for the given number of bytes
+         */
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        /**
+         * a method to write every buffered byte to the channel
+         */
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
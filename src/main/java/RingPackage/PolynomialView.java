@@ -0,0 +1,304 @@
+package RingPackage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * @author Vidyut Veedgav
+ * a class giving read-only access to a polynomial stored by PolynomialStorage, without copying its bytes
+ * fixed coefficients are read in place, so a polynomial mapped from a file is used without building a list,
+ * while varint coefficients are decoded when the polynomial is requested
+ */
+public final class PolynomialView {
+
+    private final PolynomialStorage.RingType ringType; //the ring the polynomial was stored from
+    private final PolynomialStorage.Encoding encoding; //the layout of the coefficients
+    private final int size; //the number of coefficients
+    private final long modulus; //the modulus of a modular ring, 0 otherwise
+    private final ByteBuffer data; //the coefficient bytes, read-only and little-endian
+
+    /**
+     * a constructor for the PolynomialView class
+     */
+    private PolynomialView(PolynomialStorage.RingType ringType, PolynomialStorage.Encoding encoding, int size, long modulus, ByteBuffer data) {
+        this.ringType = ringType;
+        this.encoding = encoding;
+        this.size = size;
+        this.modulus = modulus;
+        this.data = data;
+    }
+
+    /**
+     * a method to parse the header of a stored polynomial, from the buffer's position onwards
+     * @param buffer the bytes of a stored polynomial
+     * @return a view over the coefficient bytes
+     * varint coefficients are checked once here, so decoding them later cannot fail
+     * @throws IOException if the bytes are not a stored polynomial
+     */
+    static PolynomialView of(ByteBuffer buffer) throws IOException {
+        ByteBuffer bytes = buffer.slice().asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        if (bytes.remaining() < PolynomialStorage.HEADER_SIZE || bytes.getInt(0) != PolynomialStorage.MAGIC) {
+            throw new IOException("the bytes are not a stored polynomial");
+        }
+        if (bytes.get(4) != PolynomialStorage.VERSION) {
+            throw new IOException("unsupported format version " + bytes.get(4));
+        }
+        int ringIndex = bytes.get(5);
+        int encodingIndex = bytes.get(6);
+        int size = bytes.getInt(8);
+        long modulus = bytes.getLong(12);
+        if (ringIndex < 0 || ringIndex >= PolynomialStorage.RingType.values().length
+                || encodingIndex < 0 || encodingIndex >= PolynomialStorage.Encoding.values().length || size < 0) {
+            throw new IOException("corrupted polynomial header");
+        }
+        PolynomialStorage.Encoding encoding = PolynomialStorage.Encoding.values()[encodingIndex];
+        if (encoding == PolynomialStorage.Encoding.FIXED && (long) size * 4 > bytes.remaining() - PolynomialStorage.HEADER_SIZE) {
+            throw new IOException("the coefficients are truncated");
+        }
+
+        PolynomialStorage.RingType ringType = PolynomialStorage.RingType.values()[ringIndex];
+        if (ringType == PolynomialStorage.RingType.BIG_INTEGER && encoding != PolynomialStorage.Encoding.VARINT) {
+            throw new IOException("BigInteger coefficients are always length-prefixed varints");
+        }
+
+        ByteBuffer data = bytes.position(PolynomialStorage.HEADER_SIZE).slice().order(ByteOrder.LITTLE_ENDIAN);
+        if (encoding == PolynomialStorage.Encoding.VARINT) {
+            checkVarints(ringType, size, data.duplicate());
+        }
+        return new PolynomialView(ringType, encoding, size, modulus, data);
+    }
+
+    /**
+     * a helper method to walk the varint coefficients once, checking none runs past the end or overflows
+     */
+    private static void checkVarints(PolynomialStorage.RingType ringType, int size, ByteBuffer input) throws IOException {
+        //every coefficient takes at least one byte, which bounds the count before anything is decoded
+        if (size > input.remaining()) {
+            throw new IOException("the coefficients are truncated");
+        }
+        for (int i = 0; i < size; i++) {
+            int value = varint(input);
+            if (ringType == PolynomialStorage.RingType.BIG_INTEGER) {
+                if (value < 1 || value > input.remaining()) {
+                    throw new IOException("corrupted coefficient length " + Integer.toUnsignedString(value));
+                }
+                input.position(input.position() + value);
+            }
+        }
+    }
+
+    /**
+     * a getter method to return the ring the polynomial was stored from
+     * @return the ring type
+     */
+    public PolynomialStorage.RingType getRingType() {
+        return ringType;
+    }
+
+    /**
+     * a getter method to return the layout of the coefficients
+     * @return the encoding
+     */
+    public PolynomialStorage.Encoding getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * a method to return the number of stored coefficients
+     * @return the size, which is the degree plus one
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * a getter method to return the modulus of a polynomial stored from a ModularRing
+     * @return the modulus, or 0 for other rings
+     */
+    public long getModulus() {
+        return modulus;
+    }
+
+    /**
+     * a method to return the polynomial stored from the IntegerRing
+     * fixed coefficients are read straight from the bytes on every access, so nothing is copied
+     * @return a polynomial backed by the stored bytes, or decoded from them
+     * @throws IllegalStateException if the polynomial was stored from another ring
+     */
+    public WorkingPolynomial<Integer> asIntegers() {
+        requireType(PolynomialStorage.RingType.INTEGER);
+
+        if (encoding == PolynomialStorage.Encoding.FIXED) {
+            return WorkingPolynomial.wrap(new IntList(fixedValues()));
+        }
+        List<Integer> coefficients = new ArrayList<>(size);
+        ByteBuffer input = data.duplicate();
+        for (int i = 0; i < size; i++) {
+            int zigzag = checkedVarint(input);
+            coefficients.add((zigzag >>> 1) ^ -(zigzag & 1));
+        }
+        return WorkingPolynomial.wrap(coefficients);
+    }
+
+    /**
+     * a method to return the polynomial stored from the IntegerRing in its primitive form, with one bulk copy
+     * @return a new primitive polynomial
+     * @throws IllegalStateException if the polynomial was stored from another ring
+     */
+    public IntPolynomial toIntPolynomial() {
+        requireType(PolynomialStorage.RingType.INTEGER);
+
+        if (encoding == PolynomialStorage.Encoding.FIXED) {
+            int[] values = new int[size];
+            fixedValues().get(values);
+            return IntPolynomial.of(values);
+        }
+        return IntPolynomial.from(asIntegers());
+    }
+
+    /**
+     * a method to return the polynomial stored from a ModularRing, whose ring is new ModularRing(getModulus())
+     * fixed residues are read straight from the bytes on every access, so nothing is copied
+     * @return a polynomial backed by the stored bytes, or decoded from them
+     * @throws IllegalStateException if the polynomial was stored from another ring
+     */
+    public WorkingPolynomial<Long> asResidues() {
+        requireType(PolynomialStorage.RingType.MODULAR);
+
+        if (encoding == PolynomialStorage.Encoding.FIXED) {
+            return WorkingPolynomial.wrap(new ResidueList(fixedValues()));
+        }
+        List<Long> coefficients = new ArrayList<>(size);
+        ByteBuffer input = data.duplicate();
+        for (int i = 0; i < size; i++) {
+            coefficients.add((long) checkedVarint(input));
+        }
+        return WorkingPolynomial.wrap(coefficients);
+    }
+
+    /**
+     * a method to decode the polynomial stored from the BigIntegerRing
+     * @return a polynomial decoded from the stored bytes
+     * @throws IllegalStateException if the polynomial was stored from another ring
+     */
+    public WorkingPolynomial<BigInteger> asBigIntegers() {
+        requireType(PolynomialStorage.RingType.BIG_INTEGER);
+
+        List<BigInteger> coefficients = new ArrayList<>(size);
+        ByteBuffer input = data.duplicate();
+        for (int i = 0; i < size; i++) {
+            byte[] bytes = new byte[checkedVarint(input)];
+            input.get(bytes);
+            coefficients.add(new BigInteger(bytes));
+        }
+        return WorkingPolynomial.wrap(coefficients);
+    }
+
+    /**
+     * overrides the toString method to print the header fields
+     */
+    @Override
+    public String toString() {
+        return "PolynomialView [ringType=" + ringType + ", encoding=" + encoding + ", size=" + size + ", modulus=" + modulus + "]";
+    }
+
+    /**
+     * a helper method to check the polynomial was stored from the expected ring
+     */
+    private void requireType(PolynomialStorage.RingType expected) {
+        if (ringType != expected) {
+            throw new IllegalStateException("the polynomial was stored from a " + ringType + " ring, not " + expected);
+        }
+    }
+
+    /**
+     * a helper method to return the fixed coefficients as ints, ignoring any bytes stored after them
+     */
+    private IntBuffer fixedValues() {
+        return data.asIntBuffer().limit(size);
+    }
+
+    /**
+     * a helper method to read an unsigned 32-bit varint, at most 5 bytes long, advancing the buffer
+     * @throws IOException if the buffer ends first or the value does not fit in 32 bits
+     */
+    private static int varint(ByteBuffer input) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (!input.hasRemaining()) {
+                throw new IOException("the coefficients are truncated");
+            }
+            byte next = input.get();
+            if (shift == 28 && (next & 0xF0) != 0) {
+                throw new IOException("a varint overflows 32 bits");
+            }
+            value |= (next & 0x7F) << shift;
+            if (next >= 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * a helper method to read a varint that was already checked when the view was created
+     */
+    private static int checkedVarint(ByteBuffer input) {
+        try {
+            return varint(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); //unreachable, the bytes of a view never change
+        }
+    }
+
+    /**
+     * a helper class presenting stored ints as a read-only list, reading each one when it is accessed
+     */
+    private static final class IntList extends AbstractList<Integer> implements RandomAccess {
+
+        private final IntBuffer values; //the stored values
+
+        private IntList(IntBuffer values) {
+            this.values = values;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values.get(index);
+        }
+
+        @Override
+        public int size() {
+            return values.limit();
+        }
+    }
+
+    /**
+     * a helper class presenting stored residues as a read-only list of Longs, reading each one when it is accessed
+     */
+    private static final class ResidueList extends AbstractList<Long> implements RandomAccess {
+
+        private final IntBuffer values; //the stored residues
+
+        private ResidueList(IntBuffer values) {
+            this.values = values;
+        }
+
+        @Override
+        public Long get(int index) {
+            return (long) values.get(index);
+        }
+
+        @Override
+        public int size() {
+            return values.limit();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class caching the repeated squares p, p^2, p^4, p^8, ... of a polynomial
+ * each square is computed once, the first time an exponent needs it, and every later power is
+ * only the product of the squares matching the bits of its exponent
+ * Example:
+ * p^13 = p^8 * p^4 * p, with p^2, p^4 and p^8 reused for every later exponent below 16
+ */
+public final class PowerLadder<T> {
+
+    private final Ring<T> ring; //the ring of the coefficients
+    private final int precision; //the number of coefficients kept, or Integer.MAX_VALUE for exact powers
+    private final List<WorkingPolynomial<T>> squares; //the squares computed so far, p^(2^i) at index i, guarded by this
+
+    /**
+     * a constructor for the PowerLadder class
+     * @param base the polynomial being raised to powers
+     * @param precision the number of coefficients kept
+     * @param ring the ring of the coefficients
+     */
+    private PowerLadder(WorkingPolynomial<T> base, int precision, Ring<T> ring) {
+        //null checks
+        assert base != null : "base cannot be null";
+        assert ring != null : "ring cannot be null";
+
+        this.ring = ring;
+        this.precision = precision;
+        this.squares = new ArrayList<>();
+        this.squares.add(WorkingPolynomial.truncate(base, precision));
+    }
+
+    /**
+     * a method to return a ladder computing exact powers of a polynomial
+     * @param base the polynomial being raised to powers
+     * @param ring the ring of the coefficients
+     * @return a new ladder holding only the base
+     */
+    public static <S> PowerLadder<S> of(WorkingPolynomial<S> base, Ring<S> ring) {
+        //null checks
+        Objects.requireNonNull(base, "base cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return new PowerLadder<>(base, Integer.MAX_VALUE, ring);
+    }
+
+    /**
+     * a method to return a ladder computing powers of a polynomial modulo x^precision
+     * the squares are cut to precision coefficients as well, so the cache never holds large degrees
+     * @param base the polynomial being raised to powers
+     * @param precision the number of coefficients kept, at least 0
+     * @param ring the ring of the coefficients
+     * @return a new ladder holding only the base
+     */
+    public static <S> PowerLadder<S> truncated(WorkingPolynomial<S> base, int precision, Ring<S> ring) {
+        //null checks
+        Objects.requireNonNull(base, "base cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        if (precision < 0) {
+            throw new IllegalArgumentException("precision cannot be negative");
+        }
+
+        return new PowerLadder<>(base, precision, ring);
+    }
+
+    /**
+     * a method to raise the base to a power from the cached squares, extending the cache when needed
+     * @param exponent the non-negative exponent
+     * @return the power, p^0 being the identity polynomial
+     */
+    public WorkingPolynomial<T> pow(int exponent) {
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent cannot be negative");
+        }
+
+        WorkingPolynomial<T> result = null;
+        for (int bit = 0; (exponent >>> bit) != 0; bit++) {
+            if ((exponent >>> bit & 1) != 0) {
+                WorkingPolynomial<T> rung = rung(bit);
+                result = (result == null) ? rung : WorkingPolynomial.productModulo(result, rung, precision, ring);
+            }
+        }
+        if (result == null) {
+            return WorkingPolynomial.truncate(WorkingPolynomial.from(List.of(ring.identity())), precision);
+        }
+        return result;
+    }
+
+    /**
+     * a method to return the number of squares computed so far, the base included
+     * @return the number of cached squares
+     */
+    public synchronized int cachedSquares() {
+        return squares.size();
+    }
+
+    /**
+     * a helper method to return p^(2^index), squaring the largest cached one until it is reached
+     */
+    private synchronized WorkingPolynomial<T> rung(int index) {
+        while (squares.size() <= index) {
+            WorkingPolynomial<T> last = squares.get(squares.size() - 1);
+            squares.add(WorkingPolynomial.squareModulo(last, precision, ring));
+        }
+        return squares.get(index);
+    }
+}
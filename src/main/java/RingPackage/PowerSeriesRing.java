@@ -0,0 +1,128 @@
+package RingPackage;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class to demonstrate the concept of Rings on truncated power series, which are polynomials modulo x^precision
+ * every result keeps at most precision coefficients, so long computations never grow past that size
+ * and products skip the coefficients that would be cut anyway
+ */
+public final class PowerSeriesRing<T> implements Ring<WorkingPolynomial<T>> {
+
+    private final Ring<T> baseRing; //the ring of the coefficients
+
+    private final int precision; //the number of coefficients every series keeps
+
+    /**
+     * a constructor for the PowerSeriesRing class
+     * @param ring the ring of the coefficients
+     * @param precision the number of coefficients every series keeps
+     */
+    private PowerSeriesRing(Ring<T> ring, int precision) {
+        //null check
+        assert ring != null : "ring cannot be null";
+
+        this.baseRing = ring;
+        this.precision = precision;
+    }
+
+    /**
+     * a static method to return a new power series ring
+     * @param ring the ring of the coefficients
+     * @param precision the number of coefficients every series keeps, at least 0
+     * @return a new power series ring
+     */
+    public static <T> PowerSeriesRing<T> instance(Ring<T> ring, int precision) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+        if (precision < 0) {
+            throw new IllegalArgumentException("precision cannot be negative");
+        }
+
+        return new PowerSeriesRing<>(ring, precision);
+    }
+
+    /**
+     * a getter method to return the precision
+     * @return the number of coefficients every series keeps
+     */
+    public int getPrecision() {
+        return precision;
+    }
+
+    /**
+     * overriding the zero method
+     */
+    @Override
+    public WorkingPolynomial<T> zero() {
+        return WorkingPolynomial.from(List.of());
+    }
+
+    /**
+     * overriding the identity method
+     */
+    @Override
+    public WorkingPolynomial<T> identity() {
+        return WorkingPolynomial.truncate(WorkingPolynomial.from(List.of(baseRing.identity())), precision);
+    }
+
+    /**
+     * overriding the sum method
+     */
+    @Override
+    public WorkingPolynomial<T> sum(WorkingPolynomial<T> x, WorkingPolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return WorkingPolynomial.truncate(x.plus(y, baseRing), precision);
+    }
+
+    /**
+     * overriding the product method, computing only the kept coefficients
+     */
+    @Override
+    public WorkingPolynomial<T> product(WorkingPolynomial<T> x, WorkingPolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.timesTruncated(y, precision, baseRing);
+    }
+
+    /**
+     * overriding the hasNegation method
+     * series can be negated whenever their coefficients can
+     */
+    @Override
+    public boolean hasNegation() {
+        return baseRing.hasNegation();
+    }
+
+    /**
+     * overriding the negate method by negating every kept coefficient
+     */
+    @Override
+    public WorkingPolynomial<T> negate(WorkingPolynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        List<T> coefficients = WorkingPolynomial.truncate(x, precision).getCoefficients();
+        coefficients.replaceAll(baseRing::negate);
+        return WorkingPolynomial.wrap(coefficients);
+    }
+
+    /**
+     * overriding the inverse method with Newton's iteration
+     * a series is invertible exactly when its constant term is
+     */
+    @Override
+    public WorkingPolynomial<T> inverse(WorkingPolynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        return x.inverseSeries(precision, baseRing);
+    }
+}
@@ -0,0 +1,52 @@
+package RingPackage;
+
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class holding the result of a polynomial division, a = quotient * b + remainder
+ * the remainder always has fewer coefficients than the divisor
+ */
+public final class QuotientRemainder<T> {
+
+    private final WorkingPolynomial<T> quotient; //a private field storing the quotient
+    private final WorkingPolynomial<T> remainder; //a private field storing the remainder
+
+    /**
+     * a constructor for the QuotientRemainder class
+     * @param quotient the quotient
+     * @param remainder the remainder
+     */
+    QuotientRemainder(WorkingPolynomial<T> quotient, WorkingPolynomial<T> remainder) {
+        //null checks
+        assert quotient != null : "quotient cannot be null";
+        assert remainder != null : "remainder cannot be null";
+
+        this.quotient = quotient;
+        this.remainder = remainder;
+    }
+
+    /**
+     * a getter method to return the quotient
+     * @return the quotient
+     */
+    public WorkingPolynomial<T> getQuotient() {
+        return quotient;
+    }
+
+    /**
+     * a getter method to return the remainder
+     * @return the remainder
+     */
+    public WorkingPolynomial<T> getRemainder() {
+        return remainder;
+    }
+
+    /**
+     * overrides the toString method to print the quotient and the remainder
+     */
+    @Override
+    public String toString() {
+        return "QuotientRemainder [quotient=" + Objects.toString(quotient) + ", remainder=" + remainder + "]";
+    }
+}
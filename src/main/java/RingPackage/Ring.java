@@ -1,5 +1,8 @@
 package RingPackage;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author Vidyut Veedgav
  * an interface to support ring operations on a variety of set types T
@@ -10,6 +13,149 @@ public interface Ring<T> {
     T identity(); //a method to represent the multiplicative identity property, a * 1 = a
     T sum(T x, T y); //a method to represent the sum operation
     T product(T x, T y); //a method to represent the multiplication operation
+
+    /**
+     * a method to tell whether an element is the zero of the ring
+     * rings where zero has several representations, such as unreduced residues, override it
+     * @param x the element being tested
+     * @return true if x equals zero in the ring
+     */
+    default boolean isZero(T x) {
+        return zero().equals(x);
+    }
+
+    /**
+     * a method to tell whether the ring defines additive inverses through negate
+     * @return true if negate is supported
+     */
+    default boolean hasNegation() {
+        return false;
+    }
+
+    /**
+     * a method to represent the additive inverse, x + negate(x) = 0
+     * algorithms that subtract, such as Karatsuba multiplication, are only used when hasNegation is true
+     * @param x the element being negated
+     * @return the additive inverse of x
+     */
+    default T negate(T x) {
+        throw new UnsupportedOperationException("this ring does not support negation");
+    }
+
+    /**
+     * a method to tell whether every non-zero element has an inverse, so that the ring is a field
+     * algorithms that divide by arbitrary coefficients, such as the polynomial gcd, need it to be true
+     * @return true if inverse is supported for every non-zero element
+     */
+    default boolean isField() {
+        return false;
+    }
+
+    /**
+     * a method to represent the multiplicative inverse, x * inverse(x) = 1
+     * rings where some elements have inverses override it, and throw an ArithmeticException for the others
+     * @param x the element being inverted
+     * @return the multiplicative inverse of x
+     */
+    default T inverse(T x) {
+        throw new UnsupportedOperationException("this ring does not support inversion");
+    }
+
+    /**
+     * a method to compute accumulator + x * y in one step
+     * numeric rings override it to avoid creating the intermediate product
+     * @param accumulator the value being added to
+     * @param x the first factor
+     * @param y the second factor
+     * @return the sum of the accumulator and the product
+     */
+    default T multiplyAdd(T accumulator, T x, T y) {
+        return sum(accumulator, product(x, y));
+    }
+
+    /**
+     * a method to compute the dot product of two ranges of equal length
+     * Example:
+     * x = (1, 2, 3), y = (4, 5, 6), dot(x, 1, y, 0, 2) = 2 * 4 + 3 * 5 = 23
+     * the terms are accumulated in increasing index order, x always being the left factor
+     * @param x the list holding the first range
+     * @param xFrom the first index of the first range
+     * @param y the list holding the second range
+     * @param yFrom the first index of the second range
+     * @param length the number of terms
+     * @return the sum of x[xFrom + i] * y[yFrom + i] for 0 <= i < length
+     */
+    default T dot(List<T> x, int xFrom, List<T> y, int yFrom, int length) {
+        T result = zero();
+        for (int i = 0; i < length; i++) {
+            result = multiplyAdd(result, x.get(xFrom + i), y.get(yFrom + i));
+        }
+        return result;
+    }
+
+    /**
+     * a method to add two vectors element by element, padding the shorter one with zeros
+     * @param x the first vector
+     * @param y the second vector
+     * @return a new mutable list as long as the longer vector
+     */
+    default List<T> vectorSum(List<T> x, List<T> y) {
+        int length = Math.max(x.size(), y.size());
+        List<T> result = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            result.add(sum((i < x.size()) ? x.get(i) : zero(), (i < y.size()) ? y.get(i) : zero()));
+        }
+        return result;
+    }
+
+    /**
+     * a method to multiply every element of a vector by a scalar, the scalar being the left factor
+     * @param scalar the scalar
+     * @param x the vector
+     * @return a new mutable list with the scaled elements
+     */
+    default List<T> vectorScale(T scalar, List<T> x) {
+        List<T> result = new ArrayList<>(x.size());
+        for (T element : x) {
+            result.add(product(scalar, element));
+        }
+        return result;
+    }
+
+    /**
+     * a method to multiply two polynomials whose coefficients belong to this ring
+     * rings with a faster coefficient representation override it, the default is the generic algorithm
+     * @param x the first polynomial
+     * @param y the second polynomial
+     * @return the product
+     */
+    default WorkingPolynomial<T> polynomialProduct(WorkingPolynomial<T> x, WorkingPolynomial<T> y) {
+        return x.times(y, this);
+    }
+
+    /**
+     * a method to name the algorithm polynomialProduct uses for operands of the given lengths, for metrics and tracing
+     * rings that override polynomialProduct override it to match
+     * @param xLength the number of coefficients of the first polynomial
+     * @param yLength the number of coefficients of the second polynomial
+     * @return a short name of the algorithm
+     */
+    default String polynomialAlgorithm(int xLength, int yLength) {
+        if (Math.min(xLength, yLength) < WorkingPolynomial.DEFAULT_KARATSUBA_THRESHOLD || !hasNegation()) {
+            return "schoolbook";
+        }
+        return "karatsuba";
+    }
+
+    /**
+     * a method to square a polynomial whose coefficients belong to this ring
+     * rings with a faster coefficient representation override it, the default is the generic squaring algorithm
+     * @param x the polynomial
+     * @return the square
+     */
+    default WorkingPolynomial<T> polynomialSquare(WorkingPolynomial<T> x) {
+        return x.square(this);
+    }
 }
 
 
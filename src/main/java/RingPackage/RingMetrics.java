@@ -0,0 +1,142 @@
+package RingPackage;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * @author Vidyut Veedgav
+ * a class holding a snapshot of the metrics of an InstrumentedRing, which never changes once taken
+ */
+public final class RingMetrics {
+
+    private final Map<InstrumentedRing.Operation, Long> counts; //the number of calls of each operation
+    private final Map<InstrumentedRing.Operation, Latency> latencies; //the latencies of the timed operations
+
+    /**
+     * a constructor for the RingMetrics class
+     * @param counts the number of calls of each operation
+     * @param latencies the latencies of the timed operations
+     */
+    RingMetrics(EnumMap<InstrumentedRing.Operation, Long> counts, EnumMap<InstrumentedRing.Operation, Latency> latencies) {
+        this.counts = Collections.unmodifiableMap(counts);
+        this.latencies = Collections.unmodifiableMap(latencies);
+    }
+
+    /**
+     * a method to return the number of calls of an operation
+     * @param operation the operation
+     * @return the call count
+     */
+    public long getCount(InstrumentedRing.Operation operation) {
+        return counts.getOrDefault(operation, 0L);
+    }
+
+    /**
+     * a method to return the number of calls of every operation
+     * @return an unmodifiable map from operation to call count
+     */
+    public Map<InstrumentedRing.Operation, Long> getCounts() {
+        return counts;
+    }
+
+    /**
+     * a method to return the latencies of a timed operation
+     * @param operation a polynomial operation
+     * @return the latencies, or null if the operation is not timed
+     */
+    public Latency getLatency(InstrumentedRing.Operation operation) {
+        return latencies.get(operation);
+    }
+
+    /**
+     * overrides the toString method to print the counts and the latency summaries
+     */
+    @Override
+    public String toString() {
+        return "RingMetrics [counts=" + counts + ", latencies=" + latencies + "]";
+    }
+
+    /**
+     * a class holding the latency histogram of one operation
+     * bucket i counts the latencies in [2^(i-1), 2^i) nanoseconds, bucket 0 the zero latencies
+     */
+    public static final class Latency {
+
+        private final long[] buckets; //the number of latencies in each bucket
+        private final long count; //the number of latencies
+        private final long totalNanos; //the sum of the latencies
+
+        /**
+         * a constructor for the Latency class
+         * @param buckets the number of latencies in each bucket
+         * @param totalNanos the sum of the latencies
+         */
+        Latency(long[] buckets, long totalNanos) {
+            this.buckets = buckets;
+            this.count = Arrays.stream(buckets).sum();
+            this.totalNanos = totalNanos;
+        }
+
+        /**
+         * a getter method to return the number of recorded latencies
+         * @return the count
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * a getter method to return the sum of the recorded latencies
+         * @return the total in nanoseconds
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /**
+         * a method to return the mean latency
+         * @return the mean in nanoseconds, or 0 if nothing was recorded
+         */
+        public double getMeanNanos() {
+            return (count == 0) ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * a method to return an upper bound of a latency quantile, accurate to a factor of two
+         * @param quantile the quantile, between 0 and 1
+         * @return the upper end of the bucket holding the quantile in nanoseconds, or 0 if nothing was recorded
+         */
+        public long getQuantileNanos(double quantile) {
+            if (quantile < 0 || quantile > 1) {
+                throw new IllegalArgumentException("quantile must be between 0 and 1");
+            }
+            long rank = (long) Math.ceil(quantile * count);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    return (i == 0) ? 0 : (i >= 63) ? Long.MAX_VALUE : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * a method to return a copy of the bucket counts
+         * @return the number of latencies in each bucket
+         */
+        public long[] getBucketCounts() {
+            return buckets.clone();
+        }
+
+        /**
+         * overrides the toString method to print the count, mean and median
+         */
+        @Override
+        public String toString() {
+            return "Latency [count=" + count + ", meanNanos=" + getMeanNanos() + ", medianNanos<=" + getQuantileNanos(0.5) + "]";
+        }
+    }
+}
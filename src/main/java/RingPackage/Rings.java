@@ -2,6 +2,8 @@ package RingPackage;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BinaryOperator;
 
 /**
@@ -45,12 +47,102 @@ public final class Rings<T> {
         return result;
     }
 
+    /**
+     * a method to reduce elements of a list by combining neighbours pairwise in a balanced binary tree
+     * Example:
+     * (a, b, c, d) reduces to (a * b) * (c * d) instead of ((a * b) * c) * d
+     * the operands of each step stay similar in size, which keeps products of many polynomials cheap
+     * the order of the elements is kept, so the accumulator only needs to be associative
+     * @param <T>
+     * @param args
+     * @param zero
+     * @param accumulator an associative operation
+     * @return a single value which is the result of the reduction
+     */
+    public static <T> T balancedReduce(List<T> args, T zero, BinaryOperator<T> accumulator) {
+
+        //null checks
+        Objects.requireNonNull(args);
+        Objects.requireNonNull(zero);
+        Objects.requireNonNull(accumulator);
+
+        if (args.isEmpty()) {
+            return zero;
+        }
+        return new TreeReduction<>(args, accumulator, 0, args.size(), false).compute();
+    }
+
+    /**
+     * a method to reduce elements of a list with the same balanced tree as balancedReduce,
+     * running both halves of every node in parallel on the given pool
+     * @param <T>
+     * @param args
+     * @param zero
+     * @param accumulator an associative and thread-safe operation
+     * @param pool the pool running the reduction
+     * @return a single value which is the result of the reduction
+     */
+    public static <T> T parallelReduce(List<T> args, T zero, BinaryOperator<T> accumulator, ForkJoinPool pool) {
+
+        //null checks
+        Objects.requireNonNull(args);
+        Objects.requireNonNull(zero);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(pool);
+
+        if (args.isEmpty()) {
+            return zero;
+        }
+        return pool.invoke(new TreeReduction<>(args, accumulator, 0, args.size(), true));
+    }
+
+    /**
+     * a task reducing the elements in [from, to) by reducing both halves and combining them
+     * a parallel task forks the right half, a sequential one computes both halves in order on the calling thread,
+     * even when that thread belongs to a pool
+     */
+    private static final class TreeReduction<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<T> args; //the elements being reduced
+        private final BinaryOperator<T> accumulator; //the operation combining two elements
+        private final int from; //the first index of this task
+        private final int to; //one past the last index of this task
+        private final boolean parallel; //true if the halves may run concurrently, which only parallelReduce allows
+
+        private TreeReduction(List<T> args, BinaryOperator<T> accumulator, int from, int to, boolean parallel) {
+            this.args = args;
+            this.accumulator = accumulator;
+            this.from = from;
+            this.to = to;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected T compute() {
+            if (to - from == 1) {
+                return Objects.requireNonNull(args.get(from));
+            }
+            int middle = (from + to) >>> 1;
+            TreeReduction<T> left = new TreeReduction<>(args, accumulator, from, middle, parallel);
+            TreeReduction<T> right = new TreeReduction<>(args, accumulator, middle, to, parallel);
+            if (parallel) {
+                right.fork();
+                T leftResult = left.compute();
+                return accumulator.apply(leftResult, right.join());
+            }
+            return accumulator.apply(left.compute(), right.compute());
+        }
+    }
+
     /**
      * a method to reduce a list by summing its elements
      * @param <T>
      * @param args
      * @param ring
-     * @return a reduction based on addition
+     * @return a reduction based on addition, combined in a balanced tree
+     *         or, for a PolynomialRing, accumulated in place into one buffer
      */
     public static <T> T sum(List<T> args, Ring<T> ring) {
 
@@ -58,7 +150,23 @@ public final class Rings<T> {
         Objects.requireNonNull(args);
         Objects.requireNonNull(ring);
 
-        return reduce(args, ring.zero(), (x, y) -> ring.sum(x, y));
+        if (ring instanceof PolynomialRing) {
+            return sumInPlace(args, (PolynomialRing<?>) ring);
+        }
+        return balancedReduce(args, ring.zero(), (x, y) -> ring.sum(x, y));
+    }
+
+    /**
+     * a helper method to sum polynomials with a single accumulator
+     * the elements of a list reduced over a PolynomialRing<S> are WorkingPolynomial<S>, which makes the casts safe
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, S> T sumInPlace(List<T> args, PolynomialRing<S> ring) {
+        PolynomialAccumulator<S> accumulator = ring.accumulator();
+        for (T element : args) {
+            accumulator.addInPlace((WorkingPolynomial<S>) Objects.requireNonNull(element));
+        }
+        return (T) accumulator.build();
     }
 
     /**
@@ -66,7 +174,7 @@ public final class Rings<T> {
      * @param <T>
      * @param args
      * @param ring
-     * @return a reduction based on multiplication
+     * @return a reduction based on multiplication, combined in a balanced tree
      */
     public static <T> T product(List<T> args, Ring<T> ring) {
 
@@ -74,6 +182,42 @@ public final class Rings<T> {
         Objects.requireNonNull(args);
         Objects.requireNonNull(ring);
 
-        return reduce(args, ring.identity(), (x, y) -> ring.product(x, y));
+        return balancedReduce(args, ring.identity(), (x, y) -> ring.product(x, y));
+    }
+
+    /**
+     * a method to reduce a list by summing its elements in parallel
+     * @param <T>
+     * @param args
+     * @param ring a thread-safe ring
+     * @param pool the pool running the reduction
+     * @return a reduction based on addition
+     */
+    public static <T> T parallelSum(List<T> args, Ring<T> ring, ForkJoinPool pool) {
+
+        //null checks
+        Objects.requireNonNull(args);
+        Objects.requireNonNull(ring);
+
+        return parallelReduce(args, ring.zero(), (x, y) -> ring.sum(x, y), pool);
+    }
+
+    /**
+     * a method to reduce a list by multiplying its elements in parallel
+     * Example:
+     * the product of the linear factors (x - r1), ..., (x - rk) runs k / 2 small products at the bottom of the tree at once
+     * @param <T>
+     * @param args
+     * @param ring a thread-safe ring
+     * @param pool the pool running the reduction
+     * @return a reduction based on multiplication
+     */
+    public static <T> T parallelProduct(List<T> args, Ring<T> ring, ForkJoinPool pool) {
+
+        //null checks
+        Objects.requireNonNull(args);
+        Objects.requireNonNull(ring);
+
+        return parallelReduce(args, ring.identity(), (x, y) -> ring.product(x, y), pool);
     }
 }
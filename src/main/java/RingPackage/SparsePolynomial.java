@@ -0,0 +1,337 @@
+package RingPackage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class representing a polynomial by its non-zero terms only
+ * the exponents are kept in increasing order next to their coefficients, so x^1000000 + 1 holds two terms
+ * memory and the cost of plus and times grow with the number of terms instead of the degree
+ */
+public final class SparsePolynomial<T> {
+
+    private final long[] exponents; //the exponents of the non-zero terms, in increasing order
+    private final Object[] coefficients; //the coefficient of each exponent, never the ring's zero
+
+    /**
+     * a constructor for the SparsePolynomial class
+     * the arrays are owned by the new polynomial and must already be sorted and free of zeros
+     * @param exponents the exponents of the terms
+     * @param coefficients the coefficients of the terms
+     */
+    private SparsePolynomial(long[] exponents, Object[] coefficients) {
+        //null checks
+        assert exponents != null : "exponents cannot be null";
+        assert coefficients != null : "coefficients cannot be null";
+        assert exponents.length == coefficients.length : "every exponent needs a coefficient";
+
+        this.exponents = exponents;
+        this.coefficients = coefficients;
+    }
+
+    /**
+     * a method to return a new polynomial with the given terms, in any order
+     * terms with the same exponent are added together and zero terms are dropped
+     * @param exponents the non-negative exponents of the terms
+     * @param coefficients the coefficients of the terms
+     * @param ring the ring of the coefficients
+     * @return a new polynomial with the same terms
+     */
+    public static <S> SparsePolynomial<S> of(long[] exponents, List<S> coefficients, Ring<S> ring) {
+        //null checks
+        Objects.requireNonNull(exponents, "exponents cannot be null");
+        Objects.requireNonNull(coefficients, "coefficients cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+        if (exponents.length != coefficients.size()) {
+            throw new IllegalArgumentException("every exponent needs a coefficient");
+        }
+
+        //sorting the term indices by exponent
+        Integer[] order = new Integer[exponents.length];
+        for (int i = 0; i < order.length; i++) {
+            if (exponents[i] < 0) {
+                throw new IllegalArgumentException("exponents cannot be negative");
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, (i, j) -> Long.compare(exponents[i], exponents[j]));
+
+        Terms<S> terms = new Terms<>(order.length);
+        for (int k = 0; k < order.length; ) {
+            long exponent = exponents[order[k]];
+            S coefficient = Objects.requireNonNull(coefficients.get(order[k]), "coefficients cannot contain null");
+            for (k++; k < order.length && exponents[order[k]] == exponent; k++) {
+                coefficient = ring.sum(coefficient, coefficients.get(order[k]));
+            }
+            terms.add(exponent, coefficient, ring);
+        }
+        return terms.build();
+    }
+
+    /**
+     * a method to convert a dense polynomial into its sparse form, dropping zero coefficients
+     * @param dense the dense polynomial
+     * @param ring the ring of the coefficients
+     * @return a new sparse polynomial with the same terms
+     */
+    public static <S> SparsePolynomial<S> fromDense(WorkingPolynomial<S> dense, Ring<S> ring) {
+        //null checks
+        Objects.requireNonNull(dense, "dense cannot be null");
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        Terms<S> terms = new Terms<>(dense.degree() + 1);
+        for (int i = 0; i <= dense.degree(); i++) {
+            terms.add(i, dense.coefficient(i), ring);
+        }
+        return terms.build();
+    }
+
+    /**
+     * a method to convert this polynomial into its dense form, filling the gaps with zeros
+     * @param ring the ring of the coefficients
+     * @return a new dense polynomial with degree() + 1 coefficients
+     */
+    public WorkingPolynomial<T> toDense(Ring<T> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+        if (degree() >= Integer.MAX_VALUE - 8) {
+            throw new ArithmeticException("the degree is too large for the dense form");
+        }
+
+        List<T> dense = Multiplication.zeros((int) (degree() + 1), ring);
+        for (int i = 0; i < exponents.length; i++) {
+            dense.set((int) exponents[i], coefficient(i));
+        }
+        return WorkingPolynomial.wrap(dense);
+    }
+
+    /**
+     * a method to return the number of non-zero terms
+     * @return the number of terms
+     */
+    public int termCount() {
+        return exponents.length;
+    }
+
+    /**
+     * a method to return the exponent of a term
+     * @param term the index of the term, between 0 and termCount() - 1
+     * @return the exponent, terms being in increasing order of exponent
+     */
+    public long exponent(int term) {
+        return exponents[term];
+    }
+
+    /**
+     * a method to return the coefficient of a term
+     * @param term the index of the term, between 0 and termCount() - 1
+     * @return the coefficient
+     */
+    @SuppressWarnings("unchecked")
+    public T coefficient(int term) {
+        return (T) coefficients[term];
+    }
+
+    /**
+     * a method to return the degree of the polynomial
+     * @return the largest exponent, or -1 for the zero polynomial
+     */
+    public long degree() {
+        return (exponents.length == 0) ? -1 : exponents[exponents.length - 1];
+    }
+
+    /**
+     * overrides the toString method to print the polynomial's terms
+     */
+    @Override
+    public String toString() {
+        StringBuilder terms = new StringBuilder();
+        for (int i = 0; i < exponents.length; i++) {
+            terms.append((i == 0) ? "" : ", ").append(coefficients[i]).append("x^").append(exponents[i]);
+        }
+        return "SparsePolynomial [terms=[" + terms + "]]";
+    }
+
+    /**
+     * a method to add two polynomials together by merging their sorted terms
+     * Example:
+     * a: 1 + 2x^1000
+     * b: 3x^5 - 2x^1000
+     * a + b = 1 + 3x^5
+     * @param other the other polynomial being added
+     * @param ring the ring of the polynomial
+     * @return the sum
+     */
+    public SparsePolynomial<T> plus(SparsePolynomial<T> other, Ring<T> ring) {
+        //null checks
+        Objects.requireNonNull(other, "the 'other' parameter cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+
+        Terms<T> terms = new Terms<>(this.termCount() + other.termCount());
+        int i = 0;
+        int j = 0;
+        while (i < this.termCount() || j < other.termCount()) {
+            if (j == other.termCount() || (i < this.termCount() && this.exponents[i] < other.exponents[j])) {
+                terms.add(this.exponents[i], this.coefficient(i++), ring);
+            } else if (i == this.termCount() || other.exponents[j] < this.exponents[i]) {
+                terms.add(other.exponents[j], other.coefficient(j++), ring);
+            } else {
+                terms.add(this.exponents[i], ring.sum(this.coefficient(i++), other.coefficient(j++)), ring);
+            }
+        }
+        return terms.build();
+    }
+
+    /**
+     * a method to multiply two polynomials together with Johnson's heap algorithm
+     * the heap holds at most one entry per term of the operand with fewer terms, pointing at its next partner in the other,
+     * so the term products come out in increasing order of exponent and equal exponents are summed right away
+     * a row only enters the heap once the row before it has produced its first term (Monagan and Pearce),
+     * which keeps the heap small when the product has few distinct exponents
+     * @param other the other polynomial
+     * @param ring the ring of the polynomial
+     * @return the product
+     */
+    public SparsePolynomial<T> times(SparsePolynomial<T> other, Ring<T> ring) {
+        //null checks
+        Objects.requireNonNull(other, "the 'other' parameter cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+
+        if (this.termCount() == 0 || other.termCount() == 0) {
+            return new SparsePolynomial<>(new long[0], new Object[0]);
+        }
+        Math.addExact(this.degree(), other.degree()); //no exponent of the product may overflow
+
+        boolean rowsFromThis = this.termCount() <= other.termCount();
+        SparsePolynomial<T> rows = rowsFromThis ? this : other;
+        SparsePolynomial<T> columns = rowsFromThis ? other : this;
+
+        //the heap keeps the exponent of each entry next to its row, so sifting never recomputes it
+        int[] column = new int[rows.termCount()];
+        Heap heap = new Heap(rows.termCount());
+        heap.push(rows.exponents[0] + columns.exponents[0], 0);
+
+        Terms<T> terms = new Terms<>(rows.termCount() + columns.termCount());
+        while (heap.size > 0) {
+            long exponent = heap.keys[0];
+            T sum = ring.zero();
+
+            //popping every term product with the smallest exponent
+            while (heap.size > 0 && heap.keys[0] == exponent) {
+                int r = heap.rows[0];
+                heap.pop();
+                T aTerm = rowsFromThis ? rows.coefficient(r) : columns.coefficient(column[r]);
+                T bTerm = rowsFromThis ? columns.coefficient(column[r]) : rows.coefficient(r);
+                sum = ring.sum(sum, ring.product(aTerm, bTerm));
+
+                if (column[r] == 0 && r + 1 < rows.termCount()) {
+                    heap.push(rows.exponents[r + 1] + columns.exponents[0], r + 1);
+                }
+                if (++column[r] < columns.termCount()) {
+                    heap.push(rows.exponents[r] + columns.exponents[column[r]], r);
+                }
+            }
+            terms.add(exponent, sum, ring);
+        }
+        return terms.build();
+    }
+
+    /**
+     * a helper class holding a binary min-heap of rows keyed by the exponent of their next term product
+     */
+    private static final class Heap {
+
+        private final long[] keys; //the exponent of each entry, in heap order
+        private final int[] rows; //the row of each entry, in heap order
+        private int size; //the number of entries
+
+        private Heap(int capacity) {
+            this.keys = new long[capacity];
+            this.rows = new int[capacity];
+        }
+
+        /**
+         * a method to add an entry, sifting it up from the bottom
+         */
+        private void push(long key, int row) {
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[index] = keys[parent];
+                rows[index] = rows[parent];
+                index = parent;
+            }
+            keys[index] = key;
+            rows[index] = row;
+        }
+
+        /**
+         * a method to remove the smallest entry, sifting the last entry down from the top
+         */
+        private void pop() {
+            long key = keys[--size];
+            int row = rows[size];
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                keys[index] = keys[child];
+                rows[index] = rows[child];
+                index = child;
+            }
+            keys[index] = key;
+            rows[index] = row;
+        }
+    }
+
+    /**
+     * a helper class collecting terms in increasing order of exponent, skipping zero coefficients
+     */
+    private static final class Terms<S> {
+
+        private long[] exponents; //the exponents collected so far
+        private Object[] coefficients; //the coefficients collected so far
+        private int size; //the number of terms collected so far
+
+        private Terms(int capacity) {
+            this.exponents = new long[Math.max(capacity, 1)];
+            this.coefficients = new Object[Math.max(capacity, 1)];
+        }
+
+        /**
+         * a method to append a term, whose exponent must be larger than the previous one
+         */
+        private void add(long exponent, S coefficient, Ring<S> ring) {
+            if (ring.isZero(coefficient)) {
+                return;
+            }
+            if (size == exponents.length) {
+                exponents = Arrays.copyOf(exponents, 2 * size);
+                coefficients = Arrays.copyOf(coefficients, 2 * size);
+            }
+            exponents[size] = exponent;
+            coefficients[size] = coefficient;
+            size++;
+        }
+
+        /**
+         * a method to freeze the collected terms into a polynomial
+         */
+        private SparsePolynomial<S> build() {
+            return new SparsePolynomial<>(Arrays.copyOf(exponents, size), Arrays.copyOf(coefficients, size));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package RingPackage;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * @author Vidyut Veedgav
+ * a class to demonstrate the concept of Rings on sparse polynomials, analogous to PolynomialRing
+ */
+public final class SparsePolynomialRing<T> implements Ring<SparsePolynomial<T>> {
+
+    private final Ring<T> baseRing; //a private field storing the ring of the coefficients
+
+    /**
+     * a constructor for the SparsePolynomialRing class
+     * @param ring the ring of the coefficients
+     */
+    private SparsePolynomialRing(Ring<T> ring) {
+        //null check
+        assert ring != null : "ring cannot be null";
+
+        this.baseRing = ring;
+    }
+
+    /**
+     * a static method to return a new sparse polynomial ring
+     * @param <T> the type of the coefficients
+     * @param ring the ring of the coefficients
+     * @return a new sparse polynomial ring
+     */
+    public static <T> SparsePolynomialRing<T> instance(Ring<T> ring) {
+        //null check
+        Objects.requireNonNull(ring, "ring cannot be null");
+
+        return new SparsePolynomialRing<>(ring);
+    }
+
+    /**
+     * overriding the zero method
+     */
+    @Override
+    public SparsePolynomial<T> zero() {
+        return SparsePolynomial.of(new long[0], List.of(), baseRing);
+    }
+
+    /**
+     * overriding the identity method
+     */
+    @Override
+    public SparsePolynomial<T> identity() {
+        return SparsePolynomial.of(new long[] {0}, List.of(baseRing.identity()), baseRing);
+    }
+
+    /**
+     * overriding the sum method
+     */
+    @Override
+    public SparsePolynomial<T> sum(SparsePolynomial<T> x, SparsePolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.plus(y, baseRing);
+    }
+
+    /**
+     * overriding the product method
+     */
+    @Override
+    public SparsePolynomial<T> product(SparsePolynomial<T> x, SparsePolynomial<T> y) {
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(y, "y cannot be null");
+
+        return x.times(y, baseRing);
+    }
+
+    /**
+     * overriding the hasNegation method
+     * polynomials can be negated whenever their coefficients can
+     */
+    @Override
+    public boolean hasNegation() {
+        return baseRing.hasNegation();
+    }
+
+    /**
+     * overriding the negate method by negating every term
+     */
+    @Override
+    public SparsePolynomial<T> negate(SparsePolynomial<T> x) {
+        //null check
+        Objects.requireNonNull(x, "x cannot be null");
+
+        long[] exponents = new long[x.termCount()];
+        Object[] coefficients = new Object[x.termCount()];
+        for (int i = 0; i < exponents.length; i++) {
+            exponents[i] = x.exponent(i);
+            coefficients[i] = baseRing.negate(x.coefficient(i));
+        }
+        @SuppressWarnings("unchecked")
+        List<T> negated = (List<T>) List.of(coefficients);
+        return SparsePolynomial.of(exponents, negated, baseRing);
+    }
+}
@@ -0,0 +1,91 @@
+package RingPackage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author Vidyut Veedgav
+ * a helper class evaluating a polynomial at many points through the subproduct tree of the points
+ * every node holds the product of (x - r) over the points below it, and a polynomial reduced modulo a node
+ * takes the same values at those points, so the polynomial shrinks on the way down to the leaves
+ */
+final class SubproductTree<T> {
+
+    private static final int LEAF_SIZE = 16; //the number of points a leaf evaluates with Horner's method
+
+    private final List<T> points; //the points being evaluated
+    private final Ring<T> ring; //the ring of the coefficients
+    private final List<List<T>> nodes; //the node polynomials, the children of node i being 2i and 2i + 1
+
+    /**
+     * a constructor for the SubproductTree class, which builds every node polynomial from the leaves up
+     * @param points the points, at least one
+     * @param ring the ring of the coefficients, which must support negation
+     */
+    SubproductTree(List<T> points, Ring<T> ring) {
+        assert !points.isEmpty() : "points cannot be empty";
+        assert ring.hasNegation() : "the ring must support negation";
+
+        this.points = points;
+        this.ring = ring;
+        this.nodes = new ArrayList<>();
+        build(1, 0, points.size());
+    }
+
+    /**
+     * a method to evaluate a polynomial at every point of the tree
+     * @param coefficients the coefficients of the polynomial
+     * @return the values, in the order of the points
+     */
+    List<T> evaluate(List<T> coefficients) {
+        List<T> values = Multiplication.zeros(points.size(), ring);
+        descend(1, 0, points.size(), coefficients, values);
+        return values;
+    }
+
+    /**
+     * a helper method to build the node covering the points in [from, to)
+     */
+    private void build(int node, int from, int to) {
+        while (nodes.size() <= node) {
+            nodes.add(null);
+        }
+        if (to - from <= LEAF_SIZE) {
+            //multiplying the linear factors one at a time: (c0 + c1 x + ...) * (x - r)
+            List<T> product = new ArrayList<>(List.of(ring.identity()));
+            for (int i = from; i < to; i++) {
+                T negated = ring.negate(points.get(i));
+                List<T> next = new ArrayList<>(product.size() + 1);
+                next.add(ring.product(negated, product.get(0)));
+                for (int j = 1; j < product.size(); j++) {
+                    next.add(ring.multiplyAdd(product.get(j - 1), negated, product.get(j)));
+                }
+                next.add(product.get(product.size() - 1));
+                product = next;
+            }
+            nodes.set(node, product);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        build(2 * node, from, middle);
+        build(2 * node + 1, middle, to);
+        nodes.set(node, ring.polynomialProduct(WorkingPolynomial.wrap(nodes.get(2 * node)),
+                WorkingPolynomial.wrap(nodes.get(2 * node + 1))).coefficientView());
+    }
+
+    /**
+     * a helper method to reduce the polynomial modulo a node and pass it on to the children
+     */
+    private void descend(int node, int from, int to, List<T> coefficients, List<T> values) {
+        List<T> reduced = PolynomialDivision.divRem(coefficients, nodes.get(node), ring).getRemainder().coefficientView();
+        if (to - from <= LEAF_SIZE) {
+            for (int i = from; i < to; i++) {
+                values.set(i, WorkingPolynomial.wrap(reduced).evaluate(points.get(i), ring));
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        descend(2 * node, from, middle, reduced, values);
+        descend(2 * node + 1, middle, to, reduced, values);
+    }
+}
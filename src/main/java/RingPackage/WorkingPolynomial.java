@@ -1,8 +1,8 @@
 package RingPackage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Objects;
 
 /**t
@@ -11,8 +11,15 @@ import java.util.Objects;
  */
 public final class WorkingPolynomial<T> {
     
+    public static final int DEFAULT_KARATSUBA_THRESHOLD = 32; //the operand size from which times switches to Karatsuba
+
+    private static final int SUBPRODUCT_THRESHOLD = 64; //the number of points and coefficients from which evaluateAll uses a subproduct tree
+
     private final List<T> coefficients; //a private instance field representing the polynomial's coefficients
 
+    private int hash; //the cached hash code, computed on first use
+    private boolean hashIsZero; //true if the hash code was computed and is 0, so that it is not recomputed
+
     /**
      * a constructor for the Polynomial class
      * sets the coefficients p0, p1, ..., pm
@@ -33,14 +40,51 @@ public final class WorkingPolynomial<T> {
         return new WorkingPolynomial<>(List.copyOf(coefficients)); 
     }
 
+    /**
+     * a method to return a new polynomial that takes ownership of the input list without copying it
+     * only for lists that nothing else modifies afterwards, such as freshly computed results
+     * @param coefficients the coefficient list of the polynomial, which must not contain null
+     * @return a new polynomial backed by the input list
+     */
+    static <S> WorkingPolynomial<S> wrap(List<S> coefficients) {
+        return new WorkingPolynomial<>(coefficients);
+    }
+
     /**
      * a getter method to return a mutable copy of the coefficients
+     * prefer coefficient, degree or coefficientView when the list is only read
      * @return a mutable list of coefficients
      */
     public List<T> getCoefficients() {
         return new ArrayList<>(coefficients);
     }
 
+    /**
+     * a method to return the coefficient of x^index without copying the coefficient list
+     * @param index the power of x, between 0 and degree()
+     * @return the coefficient
+     */
+    public T coefficient(int index) {
+        return coefficients.get(index);
+    }
+
+    /**
+     * a method to return the degree of the polynomial, which is the index of its last stored coefficient
+     * trailing zero coefficients are stored like any other, so they count towards the degree
+     * @return the degree, or -1 for a polynomial with no coefficients
+     */
+    public int degree() {
+        return coefficients.size() - 1;
+    }
+
+    /**
+     * a method to return a read-only view of the coefficients, which costs no copy
+     * @return an unmodifiable list of coefficients
+     */
+    public List<T> coefficientView() {
+        return Collections.unmodifiableList(coefficients);
+    }
+
     /**
      * overrides the toString method to print the polynomial's coefficients
      */
@@ -49,13 +93,48 @@ public final class WorkingPolynomial<T> {
         return "Polynomial [coefficients=" + coefficients + "]";
     }
 
+    /**
+     * overrides the equals method, two polynomials being equal when their coefficient lists are
+     * trailing zeros are stored like any other coefficient, so (1, 0) and (1) are different polynomials
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof WorkingPolynomial)) {
+            return false;
+        }
+        WorkingPolynomial<?> that = (WorkingPolynomial<?>) other;
+        return this.hashCode() == that.hashCode() && this.coefficients.equals(that.coefficients);
+    }
+
+    /**
+     * overrides the hashCode method with the hash of the coefficient list
+     * the coefficients never change, so the hash is computed once and cached, like String's
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0 && !hashIsZero) {
+            h = coefficients.hashCode();
+            if (h == 0) {
+                hashIsZero = true;
+            } else {
+                hash = h;
+            }
+        }
+        return h;
+    }
+
     /**
      * a method to add two polynomials together
      * Example:
      * a: (1, 2, 3)
      * b: (4, 5, 6)
      * a + b = (5, 7, 9)
-     * McCabe's Complexity: 3
+     * the shorter polynomial is padded with zeros by the ring's vectorSum
+     * McCabe's Complexity: 1
      * @param other the other polynomial being added
      * @param ring the ring of the polynomial
      * @return the sum
@@ -66,43 +145,10 @@ public final class WorkingPolynomial<T> {
         Objects.requireNonNull(other, "the 'other' parameter cannot be null");
         Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
 
-        List<T> a = this.getCoefficients(); //coefficients of the first polynomial
-        List<T> b = other.getCoefficients(); //coefficients of the second polynomial
-
-        int maxLength = Math.max(a.size(), b.size()); //computing the length of the longer list
-        List<T> sum_list = new ArrayList<>(maxLength); //a new list storing the sum values
-
-        //initializing the iterators
-        ListIterator<T> aIter = a.listIterator();
-        ListIterator<T> bIter = b.listIterator();
-
-        //iterating until the longer list's index is reached
-        while (aIter.hasNext() || bIter.hasNext()) { 
-
-            //  for each of the lists, checks if the end of the list is reached, 
-            //  and either assigns the addend to the coefficient at the index or zero
-            T a_addend = getAddend(ring, a, aIter); 
-            T b_addend = getAddend(ring, b, bIter);
-
-            T sum = ring.sum(a_addend, b_addend); //computes the sum of the addends
-            sum_list.add(sum); //adds the sum to the sum_list, which will be used to create the returned polynomial
-        }
-        return new WorkingPolynomial<>(sum_list);
-    }
-
-    /**
-     *  a helper method for the plus method to assign determine if an addend should be assigned to a value or zero
-     * @param ring the ring of the polynomial
-     * @param list the list being checked
-     * @param iterator the iterator of the polynomial
-     * @return the assignemnt given the condition
-     */
-    private T getAddend(Ring<T> ring, List<T> list, ListIterator<T> iterator) {
+        List<T> a = this.coefficients; //coefficients of the first polynomial
+        List<T> b = other.coefficients; //coefficients of the second polynomial
 
-        assert ring != null : "ring cannot be null";
-        assert list != null : "list cannot be null";
-        assert iterator != null : "iterator cannot be null";
-        return (iterator.hasNext()) ? iterator.next() : ring.zero();
+        return new WorkingPolynomial<>(ring.vectorSum(a, b));
     }
 
     /**
@@ -166,41 +212,284 @@ public final class WorkingPolynomial<T> {
     // I was not able to get the iterator method working since I was confused with the computeStartIndex method
     // Created my own version of times which works
     public WorkingPolynomial<T> times(WorkingPolynomial<T> other, Ring<T> ring) {
+        return times(other, ring, DEFAULT_KARATSUBA_THRESHOLD);
+    }
+
+    /**
+     * a method to multiply two polynomials together with a tunable algorithm crossover
+     * operands shorter than the threshold use the schoolbook double loop,
+     * longer ones use Karatsuba's algorithm when the ring supports negation
+     * operands of very different lengths are split into chunks of the shorter length first
+     * @param other the other polynomial
+     * @param ring the ring of the polynomial
+     * @param karatsubaThreshold the operand size from which Karatsuba's algorithm is used, at least 2
+     * @return the product
+     */
+    public WorkingPolynomial<T> times(WorkingPolynomial<T> other, Ring<T> ring, int karatsubaThreshold) {
 
         // Null checks
         Objects.requireNonNull(other, "the 'other' parameter cannot be null");
         Objects.requireNonNull(ring, "the 'ring' parameter cannot be null"); 
+        if (karatsubaThreshold < 2) {
+            throw new IllegalArgumentException("karatsubaThreshold must be at least 2");
+        }
         
-        List<T> a = this.getCoefficients(); 
-        List<T> b = other.getCoefficients(); 
-    
-        int productLength = computeProductLength(a, b); 
-        List<T> product_list = new ArrayList<>(productLength);
-    
-        // Initialize `product_list` with zeros for accumulation
-        for (int i = 0; i < productLength; i++) {
-            product_list.add(ring.zero());
+        List<T> a = this.coefficients; 
+        List<T> b = other.coefficients; 
+
+        return new WorkingPolynomial<>(Multiplication.multiply(a, b, ring, karatsubaThreshold));
+    }
+
+    /**
+     * a method to multiply two polynomials modulo x^n, computing only the first n coefficients
+     * Example:
+     * (1, 2, 3) * (4, 5, 6) modulo x^3 = (4, 13, 28)
+     * @param other the other polynomial
+     * @param n the number of coefficients kept, at least 0
+     * @param ring the ring of the polynomial
+     * @return the first n coefficients of the product
+     */
+    public WorkingPolynomial<T> timesTruncated(WorkingPolynomial<T> other, int n, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "the 'other' parameter cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+        if (n < 0) {
+            throw new IllegalArgumentException("n cannot be negative");
         }
-    
-        // Main loop over `a`
-        for (int i = 0; i < a.size(); i++) {
-            T aTerm = a.get(i); // Get the term from `a` at index `i`
-    
-            // Secondary loop over `b`
-            for (int j = 0; j < b.size(); j++) {
-                T bTerm = b.get(j); // Get the term from `b` at index `j`
-                T termProduct = ring.product(aTerm, bTerm); // Multiply terms
-    
-                // Accumulate at the correct index
-                int resultIndex = i + j;
-                T currentSum = product_list.get(resultIndex);
-                product_list.set(resultIndex, ring.sum(currentSum, termProduct));
+
+        return new WorkingPolynomial<>(Multiplication.multiplyTruncated(this.coefficients, other.coefficients, n, ring, DEFAULT_KARATSUBA_THRESHOLD));
+    }
+
+    /**
+     * a method to compute the power series inverse g of the polynomial f modulo x^n, so that f * g = 1 modulo x^n
+     * Newton's iteration g = g + g * (1 - f * g) doubles the number of correct coefficients at each step,
+     * so the whole inversion costs a small constant times one product of size n
+     * Example:
+     * 1 / (1 - x) = (1, 1, 1, 1) modulo x^4
+     * @param n the number of coefficients of the inverse, at least 0
+     * @param ring the ring of the polynomial, which must support negation and invert the constant term
+     * @return the first n coefficients of the inverse
+     * @throws ArithmeticException if the constant term has no inverse
+     */
+    public WorkingPolynomial<T> inverseSeries(int n, Ring<T> ring) {
+
+        //null check
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+        if (n < 0) {
+            throw new IllegalArgumentException("n cannot be negative");
+        }
+        if (n == 0) {
+            return new WorkingPolynomial<>(new ArrayList<>());
+        }
+
+        //a constant term of 1 is its own inverse, even in rings that cannot invert anything else
+        T constant = coefficients.isEmpty() ? ring.zero() : coefficients.get(0);
+        T constantInverse = ring.identity().equals(constant) ? constant : ring.inverse(constant);
+        WorkingPolynomial<T> inverse = new WorkingPolynomial<>(new ArrayList<>(List.of(constantInverse)));
+        for (int precision = 1; precision < n; ) {
+            precision = Math.min(2 * precision, n);
+
+            //the residual 1 - f * g is zero below the previous precision
+            List<T> residual = this.timesTruncated(inverse, precision, ring).getCoefficients();
+            residual.replaceAll(ring::negate);
+            residual.set(0, ring.sum(residual.get(0), ring.identity()));
+
+            WorkingPolynomial<T> correction = inverse.timesTruncated(new WorkingPolynomial<>(residual), precision, ring);
+            inverse = inverse.plus(correction, ring);
+        }
+        return inverse;
+    }
+
+    /**
+     * a method to divide the polynomial by another, this = quotient * divisor + remainder
+     * large divisions use Newton inversion of the reversed divisor, so they cost a few fast products,
+     * and small ones use the schoolbook algorithm
+     * Example:
+     * (x^2 + 3x + 5) / (x + 1) = (x + 2) with remainder 3
+     * @param divisor the divisor, whose leading coefficient must be invertible in the ring
+     * @param ring the ring of the polynomial, which must support negation
+     * @return the quotient and the remainder, which has as many coefficients as the divisor's degree
+     * @throws ArithmeticException if the divisor is zero or its leading coefficient has no inverse
+     */
+    public QuotientRemainder<T> divRem(WorkingPolynomial<T> divisor, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(divisor, "divisor cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+
+        return PolynomialDivision.divRem(this.coefficients, divisor.coefficients, ring);
+    }
+
+    /**
+     * a method to compute the monic greatest common divisor of two polynomials over a field
+     * large operands use the half-gcd algorithm, whose cost follows the ring's fast product
+     * @param other the other polynomial
+     * @param ring the ring of the polynomial, which must be a field
+     * @return the monic gcd, or the zero polynomial if both polynomials are zero
+     */
+    public WorkingPolynomial<T> gcd(WorkingPolynomial<T> other, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(other, "the 'other' parameter cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+        if (!ring.isField()) {
+            throw new UnsupportedOperationException("the gcd needs a field of coefficients");
+        }
+
+        return new WorkingPolynomial<>(PolynomialDivision.gcd(this.coefficients, other.coefficients, ring));
+    }
+
+    /**
+     * a method to square the polynomial with the generic squaring algorithm
+     * each cross term is computed once and doubled, so this does about half the coefficient products of times
+     * prefer ring.polynomialSquare, which uses the ring's faster representation when it has one
+     * @param ring the ring of the polynomial, whose product must be commutative
+     * @return the square
+     */
+    public WorkingPolynomial<T> square(Ring<T> ring) {
+
+        //null check
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+
+        return new WorkingPolynomial<>(Multiplication.square(coefficients, ring, DEFAULT_KARATSUBA_THRESHOLD));
+    }
+
+    /**
+     * a method to raise the polynomial to a power by repeated squaring
+     * Example:
+     * p^13 = ((p^2 * p)^2)^2 * p, which takes 3 squares and 2 products instead of 12 products
+     * @param exponent the non-negative exponent
+     * @param ring the ring of the polynomial
+     * @return the power, p^0 being the identity polynomial
+     */
+    public WorkingPolynomial<T> pow(int exponent, Ring<T> ring) {
+        return power(exponent, Integer.MAX_VALUE, ring);
+    }
+
+    /**
+     * a method to raise the polynomial to a power modulo x^precision by repeated squaring
+     * every intermediate result is a product modulo x^precision, so the degrees never grow past it
+     * @param exponent the non-negative exponent
+     * @param precision the number of coefficients kept, at least 0
+     * @param ring the ring of the polynomial
+     * @return the first precision coefficients of the power
+     */
+    public WorkingPolynomial<T> powTruncated(int exponent, int precision, Ring<T> ring) {
+        if (precision < 0) {
+            throw new IllegalArgumentException("precision cannot be negative");
+        }
+        return power(exponent, precision, ring);
+    }
+
+    /**
+     * a helper method to raise the polynomial to a power, reading the exponent's bits from the top
+     * so every product is by the original polynomial, which is the smallest operand available
+     */
+    private WorkingPolynomial<T> power(int exponent, int precision, Ring<T> ring) {
+
+        //null check
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent cannot be negative");
+        }
+
+        if (exponent == 0) {
+            return truncate(new WorkingPolynomial<>(List.of(ring.identity())), precision);
+        }
+        WorkingPolynomial<T> base = truncate(this, precision);
+        WorkingPolynomial<T> result = base;
+        for (int bit = 30 - Integer.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+            result = squareModulo(result, precision, ring);
+            if ((exponent >>> bit & 1) != 0) {
+                result = productModulo(result, base, precision, ring);
             }
         }
-        return new WorkingPolynomial<>(product_list);
+        return result;
+    }
+
+    /**
+     * a helper method to multiply two polynomials modulo x^precision, Integer.MAX_VALUE meaning the exact product
+     * a finite precision goes through the truncated product, so no coefficient past precision is computed and kept
+     */
+    static <S> WorkingPolynomial<S> productModulo(WorkingPolynomial<S> x, WorkingPolynomial<S> y, int precision, Ring<S> ring) {
+        if (precision == Integer.MAX_VALUE) {
+            return ring.polynomialProduct(x, y);
+        }
+        return new WorkingPolynomial<>(Multiplication.multiplyTruncated(x.coefficients, y.coefficients, precision, ring,
+                DEFAULT_KARATSUBA_THRESHOLD));
+    }
+
+    /**
+     * a helper method to square a polynomial modulo x^precision, Integer.MAX_VALUE meaning the exact square
+     */
+    static <S> WorkingPolynomial<S> squareModulo(WorkingPolynomial<S> x, int precision, Ring<S> ring) {
+        if (precision == Integer.MAX_VALUE) {
+            return ring.polynomialSquare(x);
+        }
+        return productModulo(x, x, precision, ring);
+    }
+
+    /**
+     * a helper method to keep the first coefficients of a polynomial, which is a cut modulo x^precision
+     * @param polynomial the polynomial
+     * @param precision the number of coefficients kept
+     * @return the polynomial itself if it is short enough, otherwise a new polynomial
+     */
+    static <S> WorkingPolynomial<S> truncate(WorkingPolynomial<S> polynomial, int precision) {
+        if (polynomial.coefficients.size() <= precision) {
+            return polynomial;
+        }
+        return new WorkingPolynomial<>(new ArrayList<>(polynomial.coefficients.subList(0, precision)));
     }
     
 
+    /**
+     * a method to evaluate the polynomial at a point with Horner's method
+     * Example:
+     * p: (1, 2, 3), x = 2
+     * p(2) = 1 + 2 * (2 + 2 * 3) = 17
+     * @param x the point
+     * @param ring the ring of the polynomial
+     * @return the value of the polynomial at x
+     */
+    public T evaluate(T x, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(x, "x cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+
+        T value = ring.zero();
+        for (int i = coefficients.size() - 1; i >= 0; i--) {
+            value = ring.multiplyAdd(coefficients.get(i), value, x);
+        }
+        return value;
+    }
+
+    /**
+     * a method to evaluate the polynomial at many points
+     * when both the number of points and of coefficients are large, the polynomial is reduced through
+     * the subproduct tree of the points instead of running Horner's method once per point
+     * @param points the points
+     * @param ring the ring of the polynomial
+     * @return the values, in the order of the points
+     */
+    public List<T> evaluateAll(List<T> points, Ring<T> ring) {
+
+        //null checks
+        Objects.requireNonNull(points, "points cannot be null");
+        Objects.requireNonNull(ring, "the 'ring' parameter cannot be null");
+
+        if (points.size() >= SUBPRODUCT_THRESHOLD && coefficients.size() >= SUBPRODUCT_THRESHOLD && ring.hasNegation()) {
+            return new SubproductTree<>(points, ring).evaluate(coefficients);
+        }
+        List<T> values = new ArrayList<>(points.size());
+        for (T point : points) {
+            values.add(evaluate(point, ring));
+        }
+        return values;
+    }
+
     /**
      * a helper method to compute whether an index should be incremented in the times method
      * @param currentIndex the current index of the polynomial
@@ -218,24 +507,6 @@ public final class WorkingPolynomial<T> {
         return startIndex;
     }
 
-    /**
-     * a helper method to handle the edge case where both polynomials have no coefficients in the times method
-     * avoids an OutOfBoundsException
-     * @param a_coefficients the coefficients of the first polynomial
-     * @param b_coefficients the coefficients of the second polynomial
-     */
-    private int computeProductLength(List<T> a_coefficients, List<T> b_coefficients) {
-
-        //null checks
-        assert a_coefficients != null : "a_coefficients cannot be null";
-        assert b_coefficients != null : "b_coefficients cannot be null";
-
-        if (a_coefficients.isEmpty() && b_coefficients.isEmpty()) {
-            return 0;
-        }
-        return a_coefficients.size() + b_coefficients.size() - 1;
-    }
-
     public static void main(String[] args) {
         Ring<Integer> intRing = new IntegerRing();
         PolynomialRing<Integer> polyRing = PolynomialRing.instance(intRing);
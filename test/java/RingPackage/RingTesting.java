@@ -3,10 +3,27 @@ package RingPackage;
 import org.junit.*;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Vidyut Veedgav
@@ -114,6 +131,901 @@ public class RingTesting {
         b = WorkingPolynomial.from(List.of(-4, 5, -6));
         result = a.times(b, ring);
         assertEquals(List.of(-4, 13, -28, 27, -18), result.getCoefficients());
-    }        
-}
+    }
+
+    /**
+     * testing the primitive int polynomial and the IntegerRing routing onto it
+     */
+    @Test
+    public void testIntPolynomial() {
+
+        //test plus and times on the primitive form
+        IntPolynomial a = IntPolynomial.of(1, 2, 3, 4, 5);
+        IntPolynomial b = IntPolynomial.of(4, 5, 6);
+        assertArrayEquals(new int[] {5, 7, 9, 4, 5}, a.plus(b).getCoefficients());
+        assertArrayEquals(new int[] {4, 13, 28, 43, 58, 49, 30}, a.times(b).getCoefficients());
+
+        //test empty operands keep the generic product length
+        assertArrayEquals(new int[] {}, IntPolynomial.of().times(IntPolynomial.of()).getCoefficients());
+        assertArrayEquals(new int[] {0, 0}, IntPolynomial.of().times(IntPolynomial.of(1, 2, 3)).getCoefficients());
+
+        //test the PolynomialRing over the IntegerRing matches the generic algorithm, overflow included
+        Ring<Integer> ring = new IntegerRing();
+        PolynomialRing<Integer> polyRing = PolynomialRing.instance(ring);
+        WorkingPolynomial<Integer> p = WorkingPolynomial.from(List.of(Integer.MAX_VALUE, -2, 3));
+        WorkingPolynomial<Integer> q = WorkingPolynomial.from(List.of(7, 0, Integer.MIN_VALUE, 1));
+        assertEquals(p.times(q, ring).getCoefficients(), polyRing.product(p, q).getCoefficients());
+    }
+
+    /**
+     * testing Karatsuba multiplication against the schoolbook algorithm
+     */
+    @Test
+    public void testKaratsuba() {
+        Ring<Integer> ring = new IntegerRing();
+
+        //building operands long enough to recurse, including an unbalanced pair
+        List<Integer> longList = new ArrayList<>();
+        List<Integer> shortList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            longList.add(i * 7 - 300);
+        }
+        for (int i = 0; i < 9; i++) {
+            shortList.add(5 - i * i);
+        }
+        WorkingPolynomial<Integer> a = WorkingPolynomial.from(longList);
+        WorkingPolynomial<Integer> b = WorkingPolynomial.from(longList.subList(0, 60));
+        WorkingPolynomial<Integer> c = WorkingPolynomial.from(shortList);
+
+        //a threshold above every operand size forces the schoolbook algorithm
+        assertEquals(a.times(b, ring, 1000).getCoefficients(), a.times(b, ring, 2).getCoefficients());
+        assertEquals(a.times(c, ring, 1000).getCoefficients(), a.times(c, ring, 4).getCoefficients());
+        assertEquals(c.times(a, ring, 1000).getCoefficients(), c.times(a, ring, 4).getCoefficients());
+
+        //test the primitive Karatsuba agrees as well
+        assertEquals(a.times(b, ring, 1000).getCoefficients(),
+                IntPolynomial.from(a).times(IntPolynomial.from(b), 2).toPolynomial().getCoefficients());
+    }
+
+    /**
+     * testing that an invalid Karatsuba threshold is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testKaratsubaThreshold() {
+        WorkingPolynomial<Integer> a = WorkingPolynomial.from(List.of(1, 2));
+        a.times(a, new IntegerRing(), 1);
+    }
+
+    /**
+     * testing the ModularRing and its NTT products
+     */
+    @Test
+    public void testModularRing() {
+        ModularRing ring = new ModularRing(ModularRing.NTT_PRIME);
+
+        //test the element operations reduce into [0, modulus)
+        assertEquals(Long.valueOf(1), ring.sum(ModularRing.NTT_PRIME - 1, 2L));
+        assertEquals(Long.valueOf(ModularRing.NTT_PRIME - 1), ring.negate(1L));
+        assertEquals(Long.valueOf(ModularRing.NTT_PRIME - 2), ring.product(-1L, 2L));
+
+        //test an NTT-sized product against the schoolbook algorithm
+        List<Long> coefficients = new ArrayList<>();
+        for (long i = 0; i < 200; i++) {
+            coefficients.add(i * i * 1000003);
+        }
+        WorkingPolynomial<Long> a = WorkingPolynomial.from(coefficients);
+        WorkingPolynomial<Long> b = WorkingPolynomial.from(coefficients.subList(0, 150));
+        assertEquals(a.times(b, ring, 1000).getCoefficients(),
+                PolynomialRing.instance(ring).product(a, b).getCoefficients());
+    }
+
+    /**
+     * testing that a composite modulus is rejected
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testModularRingComposite() {
+        new ModularRing(15);
+    }
+
+    /**
+     * testing the BigIntegerRing and its Kronecker substitution products
+     */
+    @Test
+    public void testBigIntegerRing() {
+        Ring<BigInteger> ring = new BigIntegerRing();
+
+        //building signed operands long enough to be packed
+        bigIntList = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            BigInteger value = BigInteger.valueOf(3).pow(i * 5);
+            bigIntList.add((i % 3 == 0) ? value.negate() : value);
+        }
+        WorkingPolynomial<BigInteger> a = WorkingPolynomial.from(bigIntList);
+        WorkingPolynomial<BigInteger> b = WorkingPolynomial.from(bigIntList.subList(10, 30));
+        assertEquals(a.times(b, ring).getCoefficients(), PolynomialRing.instance(ring).product(a, b).getCoefficients());
+
+        //test the example with a negative middle coefficient
+        a = WorkingPolynomial.from(List.of(BigInteger.ONE, BigInteger.valueOf(-2)));
+        b = WorkingPolynomial.from(List.of(BigInteger.valueOf(3), BigInteger.valueOf(4)));
+        assertEquals(List.of(BigInteger.valueOf(3), BigInteger.valueOf(-2), BigInteger.valueOf(-8)),
+                Arrays.asList(KroneckerSubstitution.multiply(a.getCoefficients(), b.getCoefficients())));
+    }
+
+    /**
+     * testing that parallel products match the sequential path
+     */
+    @Test
+    public void testParallelProduct() {
+        PolynomialRing<Integer> ring = PolynomialRing.instance(new IntegerRing());
+        PolynomialRing<Integer> parallelRing = ring.withParallelism(new ForkJoinPool(2), 8);
+
+        //building a balanced and an unbalanced pair of operands
+        intList = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            intList.add(i * i - 1000);
+        }
+        WorkingPolynomial<Integer> a = WorkingPolynomial.from(intList);
+        WorkingPolynomial<Integer> b = WorkingPolynomial.from(intList.subList(20, 140));
+        WorkingPolynomial<Integer> c = WorkingPolynomial.from(intList.subList(0, 10));
+        assertEquals(ring.product(a, b).getCoefficients(), parallelRing.product(a, b).getCoefficients());
+        assertEquals(ring.product(c, a).getCoefficients(), parallelRing.product(c, a).getCoefficients());
+    }
+
+    /**
+     * testing the balanced and parallel reductions against the left fold
+     */
+    @Test
+    public void testBalancedReduce() {
+        PolynomialRing<Integer> ring = PolynomialRing.instance(new IntegerRing());
+
+        //building the linear factors (x - 1), ..., (x - 25)
+        List<WorkingPolynomial<Integer>> factors = new ArrayList<>();
+        for (int i = 1; i <= 25; i++) {
+            factors.add(WorkingPolynomial.from(List.of(-i, 1)));
+        }
+        WorkingPolynomial<Integer> folded = Rings.reduce(factors, ring.identity(), ring::product);
+        assertEquals(folded.getCoefficients(), Rings.product(factors, ring).getCoefficients());
+        assertEquals(folded.getCoefficients(), Rings.parallelProduct(factors, ring, new ForkJoinPool(2)).getCoefficients());
+
+        //test the order of a non-commutative operation is kept
+        List<String> words = List.of("a", "b", "c", "d", "e");
+        assertEquals("abcde", Rings.balancedReduce(words, "", String::concat));
+        assertEquals("", Rings.balancedReduce(List.of(), "", String::concat));
+
+        //test balancedReduce stays on the calling thread even when that thread is a pool worker
+        List<String> letters = new ArrayList<>();
+        for (char c = 'a'; c <= 'z'; c++) {
+            letters.add(String.valueOf(c));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Set<Thread> threads = pool.submit(() -> {
+                Set<Thread> seen = new HashSet<>(); //not thread-safe, like the accumulator
+                assertEquals("abcdefghijklmnopqrstuvwxyz", Rings.balancedReduce(letters, "", (x, y) -> {
+                    seen.add(Thread.currentThread());
+                    return x + y;
+                }));
+                return seen;
+            }).join();
+            assertEquals(1, threads.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * testing the copy-free coefficient accessors
+     */
+    @Test
+    public void testCoefficientAccess() {
+        WorkingPolynomial<Integer> a = WorkingPolynomial.from(List.of(4, 0, 6));
+        assertEquals(2, a.degree());
+        assertEquals(Integer.valueOf(6), a.coefficient(2));
+        assertEquals(List.of(4, 0, 6), a.coefficientView());
+        assertEquals(-1, WorkingPolynomial.from(List.of()).degree());
+
+        //test the view cannot be modified, while the getter still returns a mutable copy
+        assertThrows(UnsupportedOperationException.class, () -> a.coefficientView().set(0, 1));
+        List<Integer> copy = a.getCoefficients();
+        copy.set(0, 1);
+        assertEquals(Integer.valueOf(4), a.coefficient(0));
+    }
+
+    /**
+     * testing the sparse polynomial ring and the conversions to and from the dense form
+     */
+    @Test
+    public void testSparsePolynomial() {
+        Ring<Integer> ring = new IntegerRing();
+        SparsePolynomialRing<Integer> sparseRing = SparsePolynomialRing.instance(ring);
+
+        //test (x^1000000 + 1)^2 only holds three terms
+        SparsePolynomial<Integer> a = SparsePolynomial.of(new long[] {1000000, 0}, List.of(1, 1), ring);
+        SparsePolynomial<Integer> square = sparseRing.product(a, a);
+        assertEquals(3, square.termCount());
+        assertEquals(2000000, square.degree());
+        assertEquals(Integer.valueOf(2), square.coefficient(1));
+
+        //test cancelling terms are dropped
+        assertEquals(0, sparseRing.sum(a, sparseRing.negate(a)).termCount());
+
+        //test the sparse product agrees with the dense one
+        WorkingPolynomial<Integer> b = WorkingPolynomial.from(List.of(1, 0, 3, 0, 0, -2));
+        WorkingPolynomial<Integer> c = WorkingPolynomial.from(List.of(0, 4, 0, 6));
+        SparsePolynomial<Integer> product = sparseRing.product(SparsePolynomial.fromDense(b, ring), SparsePolynomial.fromDense(c, ring));
+        assertEquals(b.times(c, ring).getCoefficients(), product.toDense(ring).getCoefficients());
+
+        //test zeros in another representation are dropped too: an unreduced residue and a BigInteger zero
+        ModularRing modular = new ModularRing(7);
+        assertEquals(1, SparsePolynomial.of(new long[] {0, 1}, List.of(14L, 3L), modular).termCount());
+        assertEquals(1, SparsePolynomial.of(new long[] {0, 1}, List.<Number>of(BigInteger.ZERO, BigInteger.ONE), new AdaptiveIntegerRing()).termCount());
+    }
+
+    /**
+     * testing the fused and bulk ring operations against their generic defaults
+     */
+    @Test
+    public void testBulkOperations() {
+        Ring<Integer> ring = new IntegerRing();
+        Ring<Integer> generic = new IntegerRing() {
+            //an anonymous subclass keeps the default implementations
+        };
+
+        List<Integer> x = List.of(1, 2, 3);
+        List<Integer> y = List.of(4, 5, 6, 7);
+        assertEquals(Integer.valueOf(23), ring.dot(x, 1, y, 0, 2));
+        assertEquals(generic.dot(x, 0, y, 1, 3), ring.dot(x, 0, y, 1, 3));
+        assertEquals(Integer.valueOf(10), ring.multiplyAdd(4, 2, 3));
+        assertEquals(List.of(5, 7, 9, 7), ring.vectorSum(x, y));
+        assertEquals(generic.vectorSum(y, x), ring.vectorSum(y, x));
+        assertEquals(List.of(-2, -4, -6), ring.vectorScale(-2, x));
+
+        //test the modular overrides reduce every result
+        ModularRing modular = new ModularRing(7);
+        assertEquals(Long.valueOf(4), modular.dot(List.of(3L, 4L), 0, List.of(5L, 6L), 0, 2));
+        assertEquals(List.of(0L, 6L), modular.vectorSum(List.of(3L, 6L), List.of(4L)));
+    }
+
+    /**
+     * testing the in-place polynomial accumulator
+     */
+    @Test
+    public void testAccumulator() {
+        Ring<Integer> ring = new IntegerRing();
+        PolynomialRing<Integer> polyRing = PolynomialRing.instance(ring);
+        WorkingPolynomial<Integer> a = WorkingPolynomial.from(List.of(1, 2, 3));
+        WorkingPolynomial<Integer> b = WorkingPolynomial.from(List.of(4, 5));
+
+        //test 3 * a + b + a * b
+        PolynomialAccumulator<Integer> accumulator = polyRing.accumulator();
+        accumulator.addScaled(3, a).addInPlace(b).addProductOf(a, b);
+        WorkingPolynomial<Integer> expected = polyRing.sum(polyRing.sum(a.plus(a, ring).plus(a, ring), b), a.times(b, ring));
+        assertEquals(expected.getCoefficients(), accumulator.build().getCoefficients());
+
+        //test build resets the accumulator to zero
+        assertEquals(List.of(), accumulator.build().getCoefficients());
+
+        //test Rings.sum over a PolynomialRing gives the same result as the pairwise sum
+        List<WorkingPolynomial<Integer>> summands = List.of(a, b, a, WorkingPolynomial.from(List.of(0, 0, 0, 9)));
+        assertEquals(List.of(6, 9, 6, 9), Rings.sum(summands, polyRing).getCoefficients());
+        assertEquals(List.of(), Rings.sum(List.of(), polyRing).getCoefficients());
+    }
+
+    /**
+     * testing polynomial evaluation at one and at many points
+     */
+    @Test
+    public void testEvaluation() {
+        Ring<Integer> ring = new IntegerRing();
+        WorkingPolynomial<Integer> p = WorkingPolynomial.from(List.of(1, 2, 3));
+
+        //test Horner's method
+        assertEquals(Integer.valueOf(17), p.evaluate(2, ring));
+        assertEquals(Integer.valueOf(0), WorkingPolynomial.from(List.<Integer>of()).evaluate(5, ring));
+        assertEquals(List.of(1, 6, 17, 2), p.evaluateAll(List.of(0, 1, 2, -1), ring));
+
+        //test the primitive batch evaluation
+        IntPolynomial intP = IntPolynomial.from(p);
+        assertEquals(17, intP.evaluate(2));
+        assertArrayEquals(new int[] {1, 6, 17, 2}, intP.evaluateAll(new int[] {0, 1, 2, -1}));
+
+        //test the subproduct tree against Horner's method on many points
+        ModularRing modular = new ModularRing(ModularRing.NTT_PRIME);
+        List<Long> coefficients = new ArrayList<>();
+        List<Long> points = new ArrayList<>();
+        for (long i = 0; i < 300; i++) {
+            coefficients.add(i * i * 7919 + 3);
+            points.add(i * 104729 + 11);
+        }
+        WorkingPolynomial<Long> q = WorkingPolynomial.from(coefficients);
+        List<Long> values = q.evaluateAll(points, modular);
+        for (int i = 0; i < points.size(); i++) {
+            assertEquals(q.evaluate(points.get(i), modular), values.get(i));
+        }
+    }
+
+    /**
+     * testing the adaptive integer ring promotes to BigInteger only on overflow
+     */
+    @Test
+    public void testAdaptiveIntegerRing() {
+        AdaptiveIntegerRing ring = new AdaptiveIntegerRing();
+        BigInteger max = BigInteger.valueOf(Long.MAX_VALUE);
+
+        //test values stay Longs while they fit and become BigIntegers when they do not
+        assertEquals(Long.valueOf(7), ring.sum(3L, 4L));
+        assertEquals(max.add(BigInteger.ONE), ring.sum(Long.MAX_VALUE, 1L));
+        assertEquals(max.multiply(max), ring.product(Long.MAX_VALUE, Long.MAX_VALUE));
+        assertEquals(BigInteger.valueOf(Long.MIN_VALUE).negate(), ring.negate(Long.MIN_VALUE));
+
+        //test results that fit again are demoted back to Longs
+        assertEquals(Long.valueOf(Long.MAX_VALUE), ring.sum(ring.sum(Long.MAX_VALUE, 1L), -1L));
+        assertEquals(Long.valueOf(5), AdaptiveIntegerRing.valueOf(BigInteger.valueOf(5)));
+
+        //test a polynomial product that overflows longs matches the BigInteger ring
+        WorkingPolynomial<Number> p = WorkingPolynomial.from(List.of(Long.MAX_VALUE, 2L, -3L));
+        WorkingPolynomial<Number> q = WorkingPolynomial.from(List.of(Long.MAX_VALUE, 5L));
+        List<BigInteger> expected = WorkingPolynomial.from(List.of(max, BigInteger.TWO, BigInteger.valueOf(-3)))
+                .times(WorkingPolynomial.from(List.of(max, BigInteger.valueOf(5))), new BigIntegerRing()).getCoefficients();
+        List<Number> product = ring.polynomialProduct(p, q).getCoefficients();
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(AdaptiveIntegerRing.valueOf(expected.get(i)), product.get(i));
+        }
+
+        //test a product that fits stays on longs
+        assertEquals(List.of(4L, 13L, 22L, 15L), ring.polynomialProduct(
+                WorkingPolynomial.from(List.of(1L, 2L, 3L)), WorkingPolynomial.from(List.of(4L, 5L))).getCoefficients());
+
+        //test a large product that fits stays all Longs and matches the BigInteger ring
+        List<Number> large = new ArrayList<>();
+        List<BigInteger> largeBig = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            long value = (i * 1_000_003L) % 200_000_033L - 100_000_000L;
+            large.add(value);
+            largeBig.add(BigInteger.valueOf(value));
+        }
+        List<Number> largeProduct = ring.polynomialProduct(WorkingPolynomial.from(large), WorkingPolynomial.from(large.subList(0, 170)))
+                .getCoefficients();
+        List<BigInteger> largeExpected = WorkingPolynomial.from(largeBig)
+                .times(WorkingPolynomial.from(largeBig.subList(0, 170)), new BigIntegerRing()).getCoefficients();
+        assertEquals(largeExpected.size(), largeProduct.size());
+        for (int i = 0; i < largeExpected.size(); i++) {
+            assertTrue(largeProduct.get(i) instanceof Long);
+            assertEquals(largeExpected.get(i).longValueExact(), largeProduct.get(i).longValue());
+        }
+        assertEquals("long-karatsuba", ring.polynomialAlgorithm(300, 170));
+
+        //test a large product that overflows longs still matches the BigInteger ring
+        List<Number> wide = new ArrayList<>(large);
+        wide.set(7, Long.MAX_VALUE);
+        List<BigInteger> wideBig = new ArrayList<>(largeBig);
+        wideBig.set(7, max);
+        List<Number> wideProduct = ring.polynomialProduct(WorkingPolynomial.from(wide), WorkingPolynomial.from(wide)).getCoefficients();
+        List<BigInteger> wideExpected = WorkingPolynomial.from(wideBig).times(WorkingPolynomial.from(wideBig), new BigIntegerRing())
+                .getCoefficients();
+        for (int i = 0; i < wideExpected.size(); i++) {
+            assertEquals(AdaptiveIntegerRing.valueOf(wideExpected.get(i)), wideProduct.get(i));
+        }
+    }
+
+    /**
+     * testing squaring, powers and the power ladder
+     */
+    @Test
+    public void testPow() {
+        Ring<Integer> ring = new IntegerRing();
+        PolynomialRing<Integer> polyRing = PolynomialRing.instance(ring);
+        WorkingPolynomial<Integer> p = WorkingPolynomial.from(List.of(1, 1));
+
+        //test squaring matches the general product
+        WorkingPolynomial<Integer> q = WorkingPolynomial.from(List.of(3, -1, 4, 1, -5));
+        assertEquals(q.times(q, ring).getCoefficients(), q.square(ring).getCoefficients());
+        assertEquals(q.times(q, ring).getCoefficients(), ring.polynomialSquare(q).getCoefficients());
+
+        //test (1 + x)^5 gives the binomial coefficients
+        assertEquals(List.of(1, 5, 10, 10, 5, 1), p.pow(5, ring).getCoefficients());
+        assertEquals(List.of(1), polyRing.pow(p, 0).getCoefficients());
+        assertEquals(List.of(1, 5, 10), p.powTruncated(5, 3, ring).getCoefficients());
+
+        //test the ladder reuses its squares across exponents
+        PowerLadder<Integer> ladder = polyRing.powerLadder(p);
+        assertEquals(List.of(1, 4, 6, 4, 1), ladder.pow(4).getCoefficients());
+        assertEquals(3, ladder.cachedSquares());
+        assertEquals(p.pow(6, ring).getCoefficients(), ladder.pow(6).getCoefficients());
+        assertEquals(3, ladder.cachedSquares());
+        assertEquals(List.of(1, 6), PowerLadder.truncated(p, 2, ring).pow(6).getCoefficients());
+
+        //test truncated powers never compute a full product past the precision
+        Ring<Integer> truncatedOnly = new Ring<Integer>() {
+            @Override
+            public Integer zero() {
+                return 0;
+            }
+            @Override
+            public Integer identity() {
+                return 1;
+            }
+            @Override
+            public Integer sum(Integer x, Integer y) {
+                return x + y;
+            }
+            @Override
+            public Integer product(Integer x, Integer y) {
+                return x * y;
+            }
+            @Override
+            public WorkingPolynomial<Integer> polynomialProduct(WorkingPolynomial<Integer> x, WorkingPolynomial<Integer> y) {
+                throw new AssertionError("full product of " + x.degree() + " by " + y.degree());
+            }
+            @Override
+            public WorkingPolynomial<Integer> polynomialSquare(WorkingPolynomial<Integer> x) {
+                throw new AssertionError("full square of " + x.degree());
+            }
+        };
+        WorkingPolynomial<Integer> trinomial = WorkingPolynomial.from(List.of(1, 1, 1));
+        List<Integer> exact = trinomial.pow(10, ring).getCoefficients().subList(0, 6);
+        assertEquals(exact, trinomial.powTruncated(10, 6, truncatedOnly).getCoefficients());
+        assertEquals(exact, PowerLadder.truncated(trinomial, 6, truncatedOnly).pow(10).getCoefficients());
+
+        //test negative exponents are rejected
+        assertThrows(IllegalArgumentException.class, () -> p.pow(-1, ring));
+    }
+
+    /**
+     * testing truncated products, power series rings and series inversion
+     */
+    @Test
+    public void testPowerSeries() {
+        Ring<Integer> ring = new IntegerRing();
+        WorkingPolynomial<Integer> a = WorkingPolynomial.from(List.of(1, 2, 3));
+        WorkingPolynomial<Integer> b = WorkingPolynomial.from(List.of(4, 5, 6));
+
+        //test the truncated product keeps the first n coefficients of the full product
+        assertEquals(List.of(4, 13, 28), a.timesTruncated(b, 3, ring).getCoefficients());
+        assertEquals(a.times(b, ring).getCoefficients(), a.timesTruncated(b, 10, ring).getCoefficients());
+        assertEquals(List.of(), a.timesTruncated(b, 0, ring).getCoefficients());
+
+        //test 1 / (1 - x) = 1 + x + x^2 + ...
+        assertEquals(List.of(1, 1, 1, 1, 1), WorkingPolynomial.from(List.of(1, -1)).inverseSeries(5, ring).getCoefficients());
+
+        //test the series ring keeps every result at its precision
+        PowerSeriesRing<Long> series = PolynomialRing.instance(new ModularRing(7)).powerSeries(4);
+        WorkingPolynomial<Long> f = WorkingPolynomial.from(List.of(3L, 1L, 4L, 1L, 5L));
+        assertEquals(List.of(1L, 0L, 0L, 0L), series.product(f, series.inverse(f)).getCoefficients());
+        assertEquals(4, series.sum(f, f).getCoefficients().size());
+
+        //test a constant term without an inverse is rejected
+        assertThrows(ArithmeticException.class, () -> WorkingPolynomial.from(List.of(2, 1)).inverseSeries(3, ring));
+        assertThrows(ArithmeticException.class, () -> series.inverse(WorkingPolynomial.from(List.of(0L, 1L))));
+    }
+
+    /**
+     * testing division with remainder and the polynomial gcd
+     */
+    @Test
+    public void testDivRem() {
+        Ring<Integer> ring = new IntegerRing();
+
+        //test (x^2 + 3x + 5) / (x + 1) = (x + 2) with remainder 3
+        QuotientRemainder<Integer> division = WorkingPolynomial.from(List.of(5, 3, 1)).divRem(WorkingPolynomial.from(List.of(1, 1)), ring);
+        assertEquals(List.of(2, 1), division.getQuotient().getCoefficients());
+        assertEquals(List.of(3), division.getRemainder().getCoefficients());
+
+        //test a dividend shorter than the divisor is the remainder, padded to the divisor's degree
+        QuotientRemainder<Integer> shorter = WorkingPolynomial.from(List.of(5)).divRem(WorkingPolynomial.from(List.of(1, 2, 1)), ring);
+        assertEquals(List.of(), shorter.getQuotient().getCoefficients());
+        assertEquals(List.of(5, 0), shorter.getRemainder().getCoefficients());
+
+        //test a large division, which runs Newton inversion, satisfies a = q * b + r
+        ModularRing modular = new ModularRing(ModularRing.NTT_PRIME);
+        PolynomialRing<Long> polyRing = PolynomialRing.instance(modular);
+        List<Long> aList = new ArrayList<>();
+        List<Long> bList = new ArrayList<>();
+        for (long i = 0; i < 400; i++) {
+            aList.add(i * i * 31 + 7);
+            if (i < 150) {
+                bList.add(i * 17 + 3);
+            }
+        }
+        WorkingPolynomial<Long> a = WorkingPolynomial.from(aList);
+        WorkingPolynomial<Long> b = WorkingPolynomial.from(bList);
+        QuotientRemainder<Long> large = polyRing.divRem(a, b);
+        assertEquals(149, large.getRemainder().getCoefficients().size());
+        assertEquals(aList, polyRing.sum(polyRing.product(large.getQuotient(), b), large.getRemainder()).getCoefficients());
+
+        //test the gcd recovers a common factor, made monic
+        WorkingPolynomial<Long> factor = WorkingPolynomial.from(List.of(2L, 3L, 1L));
+        WorkingPolynomial<Long> gcd = polyRing.gcd(polyRing.product(a, factor), polyRing.product(b, factor));
+        assertEquals(List.of(2L, 3L, 1L), gcd.getCoefficients());
+
+        //test dividing by zero and taking a gcd outside a field are rejected
+        assertThrows(ArithmeticException.class, () -> a.divRem(WorkingPolynomial.from(List.of(0L)), modular));
+        assertThrows(UnsupportedOperationException.class, () -> WorkingPolynomial.from(List.of(1)).gcd(WorkingPolynomial.from(List.of(1)), ring));
+    }
+
+    /**
+     * testing polynomial equality and the caching ring decorator
+     */
+    @Test
+    public void testCachingRing() {
+        WorkingPolynomial<Integer> a = WorkingPolynomial.from(List.of(1, 2, 3));
+        WorkingPolynomial<Integer> b = WorkingPolynomial.from(List.of(4, 5));
+
+        //test polynomials compare by their coefficients
+        assertEquals(a, WorkingPolynomial.from(new ArrayList<>(List.of(1, 2, 3))));
+        assertEquals(a.hashCode(), WorkingPolynomial.from(List.of(1, 2, 3)).hashCode());
+        assertFalse(a.equals(WorkingPolynomial.from(List.of(1, 2, 3, 0))));
+
+        //test repeated products are served from the memo
+        CachingRing<WorkingPolynomial<Integer>> ring = CachingRing.of(PolynomialRing.instance(new IntegerRing()), 100);
+        WorkingPolynomial<Integer> product = ring.product(a, b);
+        assertEquals(List.of(4, 13, 22, 15), product.getCoefficients());
+        assertSame(product, ring.product(WorkingPolynomial.from(List.of(1, 2, 3)), b));
+        assertEquals(1, ring.getHitCount());
+        assertEquals(1, ring.getMissCount());
+        assertEquals(3 + 2 + 4, ring.getWeight());
+
+        //test the least recently used products are evicted once the weight is exceeded
+        for (int i = 0; i < 20; i++) {
+            ring.product(a, WorkingPolynomial.from(List.of(i)));
+        }
+        assertTrue(ring.getWeight() <= 100);
+        assertTrue(ring.getEvictionCount() > 0);
+        ring.product(a, b);
+        assertEquals(1, ring.getHitCount());
+
+        //test the decorator keeps the base ring's polynomial products
+        CachingRing<Long> modular = CachingRing.of(new ModularRing(7), 1000);
+        WorkingPolynomial<Long> p = WorkingPolynomial.from(List.of(3L, 4L));
+        assertEquals(List.of(2L, 3L, 2L), modular.polynomialProduct(p, p).getCoefficients());
+        assertEquals(List.of(2L, 3L, 2L), modular.polynomialSquare(p).getCoefficients());
+        modular.polynomialProduct(p, p);
+        assertEquals(1, modular.getHitCount());
 
+        //test a large, segmented memo serves concurrent readers and stays under its weight
+        CachingRing<Long> large = CachingRing.of(new ModularRing(ModularRing.NTT_PRIME), 1 << 16);
+        List<Long> operands = new ArrayList<>();
+        for (long i = 0; i < 500; i++) {
+            operands.add(i * 7919);
+        }
+        operands.forEach(x -> large.product(x, x));
+        operands.parallelStream().forEach(x -> assertEquals(Long.valueOf(x * x % ModularRing.NTT_PRIME), large.product(x, x)));
+        assertEquals(500, large.getHitCount());
+        assertEquals(500 * 3, large.getWeight());
+        large.clear();
+        assertEquals(0, large.getWeight());
+    }
+
+    /**
+     * testing the instrumented ring decorator counts calls and times polynomial operations
+     */
+    @Test
+    public void testInstrumentedRing() {
+        InstrumentedRing<Integer> ring = InstrumentedRing.of(new IntegerRing());
+        WorkingPolynomial<Integer> a = WorkingPolynomial.from(List.of(1, 2, 3));
+        WorkingPolynomial<Integer> b = WorkingPolynomial.from(List.of(4, 5));
+
+        //test the generic product runs one dot product per coefficient through the decorator
+        assertEquals(List.of(4, 13, 22, 15), a.times(b, ring).getCoefficients());
+        assertEquals(4, ring.snapshot().getCount(InstrumentedRing.Operation.DOT));
+
+        //test polynomial products are counted and timed
+        ring.polynomialProduct(a, b);
+        ring.polynomialSquare(a);
+        RingMetrics metrics = ring.snapshot();
+        assertEquals(1, metrics.getCount(InstrumentedRing.Operation.POLYNOMIAL_PRODUCT));
+        assertEquals(1, metrics.getLatency(InstrumentedRing.Operation.POLYNOMIAL_SQUARE).getCount());
+        assertTrue(metrics.getLatency(InstrumentedRing.Operation.POLYNOMIAL_PRODUCT).getQuantileNanos(1) >= 0);
+        assertEquals("int-schoolbook", ring.polynomialAlgorithm(3, 2));
+
+        //test a disabled ring records nothing, and reset clears the counters
+        ring.setEnabled(false);
+        ring.sum(1, 2);
+        assertEquals(0, ring.snapshot().getCount(InstrumentedRing.Operation.SUM));
+        ring.reset();
+        assertEquals(0, ring.snapshot().getCount(InstrumentedRing.Operation.DOT));
+    }
+
+    /**
+     * testing batches of products and sums on an executor
+     */
+    @Test
+    public void testBatch() throws Exception {
+        PolynomialRing<Integer> ring = PolynomialRing.instance(new IntegerRing());
+        List<Map.Entry<WorkingPolynomial<Integer>, WorkingPolynomial<Integer>>> pairs = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            List<Integer> coefficients = new ArrayList<>();
+            for (int j = 0; j <= i * 7 % 40; j++) {
+                coefficients.add(i + j);
+            }
+            pairs.add(Map.entry(WorkingPolynomial.from(coefficients), WorkingPolynomial.from(List.of(1, i))));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            //test every completion is streamed once, with the product of its own pair
+            PolynomialBatch<Integer> products = ring.productAll(pairs, executor);
+            Set<Integer> seen = new HashSet<>();
+            for (int i = 0; i < products.size(); i++) {
+                PolynomialBatch.Completion<Integer> completion = products.take();
+                Map.Entry<WorkingPolynomial<Integer>, WorkingPolynomial<Integer>> pair = pairs.get(completion.getIndex());
+                assertEquals(ring.product(pair.getKey(), pair.getValue()), completion.getResult());
+                assertTrue(seen.add(completion.getIndex()));
+            }
+            assertTrue(products.isDone());
+
+            //test the results come back in input order
+            List<WorkingPolynomial<Integer>> sums = ring.sumAll(pairs, executor).awaitAll();
+            assertEquals(ring.sum(pairs.get(7).getKey(), pairs.get(7).getValue()), sums.get(7));
+        } finally {
+            executor.shutdown();
+        }
+
+        //test an interrupted take or an expired poll leaves the completion for the next take
+        ExecutorService gated = Executors.newSingleThreadExecutor();
+        CountDownLatch gate = new CountDownLatch(1);
+        try {
+            gated.execute(() -> {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            PolynomialBatch<Integer> one = ring.productAll(pairs.subList(3, 4), gated);
+            Thread.currentThread().interrupt();
+            assertThrows(InterruptedException.class, one::take);
+            assertEquals(null, one.poll(10, TimeUnit.MILLISECONDS));
+            gate.countDown();
+            assertEquals(ring.product(pairs.get(3).getKey(), pairs.get(3).getValue()), one.take().getResult());
+            assertThrows(java.util.NoSuchElementException.class, one::take);
+        } finally {
+            gate.countDown();
+            gated.shutdown();
+        }
+
+        //test a cancelled batch never runs its queued products
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            single.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            PolynomialBatch<Integer> cancelled = ring.productAll(pairs, single);
+            cancelled.cancel();
+            assertTrue(cancelled.isDone());
+            assertThrows(CancellationException.class, cancelled::awaitAll);
+        } finally {
+            release.countDown();
+            single.shutdown();
+        }
+    }
+
+    /**
+     * testing the binary storage format and read-only views
+     */
+    @Test
+    public void testStorage() throws Exception {
+        WorkingPolynomial<Integer> p = WorkingPolynomial.from(List.of(3, -1, 0, 1000000, Integer.MIN_VALUE));
+
+        //test both encodings round trip through a byte array, varints being smaller for small values
+        ByteArrayOutputStream fixed = new ByteArrayOutputStream();
+        PolynomialStorage.writeIntegers(p, PolynomialStorage.Encoding.FIXED, Channels.newChannel(fixed));
+        ByteArrayOutputStream varint = new ByteArrayOutputStream();
+        PolynomialStorage.writeIntegers(p, PolynomialStorage.Encoding.VARINT, Channels.newChannel(varint));
+        assertEquals(20 + 5 * 4, fixed.size());
+        assertTrue(varint.size() < fixed.size());
+        assertEquals(p, PolynomialStorage.read(ByteBuffer.wrap(fixed.toByteArray())).asIntegers());
+        assertEquals(p, PolynomialStorage.read(ByteBuffer.wrap(varint.toByteArray())).asIntegers());
+        assertArrayEquals(new int[] {3, -1, 0, 1000000, Integer.MIN_VALUE},
+                PolynomialStorage.read(ByteBuffer.wrap(fixed.toByteArray())).toIntPolynomial().getCoefficients());
+
+        //test a modular polynomial is mapped from a file together with its modulus
+        ModularRing modular = new ModularRing(ModularRing.NTT_PRIME);
+        WorkingPolynomial<Long> residues = WorkingPolynomial.from(List.of(1L, 998244352L, 12345L));
+        Path file = Files.createTempFile("polynomial", ".bin");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                PolynomialStorage.writeModular(residues, modular, PolynomialStorage.Encoding.FIXED, channel);
+            }
+            PolynomialView view = PolynomialStorage.map(file);
+            assertEquals(PolynomialStorage.RingType.MODULAR, view.getRingType());
+            assertEquals(ModularRing.NTT_PRIME, view.getModulus());
+            assertEquals(residues, view.asResidues());
+            assertThrows(IllegalStateException.class, view::asIntegers);
+        } finally {
+            Files.delete(file);
+        }
+
+        //test BigIntegers and the rejection of foreign bytes
+        WorkingPolynomial<BigInteger> big = WorkingPolynomial.from(List.of(BigInteger.TEN.pow(40).negate(), BigInteger.ZERO));
+        ByteArrayOutputStream bigBytes = new ByteArrayOutputStream();
+        PolynomialStorage.writeBigIntegers(big, Channels.newChannel(bigBytes));
+        assertEquals(big, PolynomialStorage.read(ByteBuffer.wrap(bigBytes.toByteArray())).asBigIntegers());
+        assertThrows(java.io.IOException.class, () -> PolynomialStorage.read(ByteBuffer.wrap(new byte[32])));
+
+        //test corrupted varints are rejected with an IOException: too long, running past the end, or a bad length
+        byte[] overlong = Arrays.copyOf(varint.toByteArray(), PolynomialStorage.HEADER_SIZE + 6);
+        ByteBuffer.wrap(overlong).order(ByteOrder.LITTLE_ENDIAN).putInt(8, 1);
+        Arrays.fill(overlong, PolynomialStorage.HEADER_SIZE, overlong.length, (byte) 0xFF);
+        assertThrows(java.io.IOException.class, () -> PolynomialStorage.read(ByteBuffer.wrap(overlong)));
+        byte[] miscounted = varint.toByteArray();
+        ByteBuffer.wrap(miscounted).order(ByteOrder.LITTLE_ENDIAN).putInt(8, Integer.MAX_VALUE);
+        assertThrows(java.io.IOException.class, () -> PolynomialStorage.read(ByteBuffer.wrap(miscounted)));
+        byte[] badLength = bigBytes.toByteArray();
+        badLength[PolynomialStorage.HEADER_SIZE] = 0x7F;
+        assertThrows(java.io.IOException.class, () -> PolynomialStorage.read(ByteBuffer.wrap(badLength)));
+    }
+
+    @Test
+    public void testOutOfCorePolynomials() throws Exception {
+        //test a product spanning several blocks matches the in-memory product
+        int[] a = new int[150];
+        int[] b = new int[70];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = i * 7919 - 40000;
+        }
+        for (int i = 0; i < b.length; i++) {
+            b[i] = Integer.MAX_VALUE - i * 104729;
+        }
+        OutOfCorePolynomials outOfCore = OutOfCorePolynomials.withMemoryBudget(16 * 96);
+        assertEquals(16, outOfCore.getBlockSize());
+        assertThrows(IllegalArgumentException.class, () -> OutOfCorePolynomials.withMemoryBudget(100));
+
+        Path directory = Files.createTempDirectory("outofcore");
+        Path x = directory.resolve("x.bin");
+        Path y = directory.resolve("y.bin");
+        Path result = directory.resolve("result.bin");
+        ExecutorService prefetch = Executors.newSingleThreadExecutor();
+        try {
+            try (FileChannel channel = FileChannel.open(x, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                PolynomialStorage.writeIntegers(IntPolynomial.of(a).toPolynomial(), PolynomialStorage.Encoding.FIXED, channel);
+            }
+            try (FileChannel channel = FileChannel.open(y, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                PolynomialStorage.writeIntegers(IntPolynomial.of(b).toPolynomial(), PolynomialStorage.Encoding.FIXED, channel);
+            }
+            outOfCore.multiply(x, y, result);
+            assertArrayEquals(IntPolynomial.of(a).times(IntPolynomial.of(b)).getCoefficients(),
+                    PolynomialStorage.map(result).toIntPolynomial().getCoefficients());
+            outOfCore.withPrefetchExecutor(prefetch).add(x, y, result);
+            assertArrayEquals(IntPolynomial.of(a).plus(IntPolynomial.of(b)).getCoefficients(),
+                    PolynomialStorage.map(result).toIntPolynomial().getCoefficients());
+
+            //test an empty operand gives the same zeros as the in-memory product
+            try (FileChannel channel = FileChannel.open(x, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                PolynomialStorage.writeIntegers(IntPolynomial.of(new int[0]).toPolynomial(), PolynomialStorage.Encoding.FIXED, channel);
+            }
+            outOfCore.multiply(x, y, result);
+            assertArrayEquals(IntPolynomial.of(new int[0]).times(IntPolynomial.of(b)).getCoefficients(),
+                    PolynomialStorage.map(result).toIntPolynomial().getCoefficients());
+            assertEquals(b.length - 1, PolynomialStorage.map(result).size());
+
+            //test operands from different rings are rejected
+            try (FileChannel channel = FileChannel.open(y, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                PolynomialStorage.writeModular(WorkingPolynomial.from(List.of(1L, 2L)), new ModularRing(ModularRing.NTT_PRIME),
+                        PolynomialStorage.Encoding.FIXED, channel);
+            }
+            assertThrows(java.io.IOException.class, () -> outOfCore.multiply(x, y, result));
+        } finally {
+            prefetch.shutdown();
+            Files.deleteIfExists(x);
+            Files.deleteIfExists(y);
+            Files.deleteIfExists(result);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testMultivariatePolynomial() {
+        IntegerRing integers = new IntegerRing();
+        MultivariatePolynomialRing<Integer> ring = MultivariatePolynomialRing.instance(integers, 3);
+        MultivariatePolynomial<Integer> x = ring.variable(0);
+        MultivariatePolynomial<Integer> y = ring.variable(1);
+        MultivariatePolynomial<Integer> z = ring.variable(2);
+
+        //test (x + y + z)^2 through Rings.sum and Rings.product
+        MultivariatePolynomial<Integer> s = Rings.sum(List.of(x, y, z), ring);
+        MultivariatePolynomial<Integer> square = Rings.product(List.of(s, s), ring);
+        assertEquals(6, square.termCount());
+        assertEquals(2, square.totalDegree());
+        assertEquals(MultivariatePolynomial.of(3, new int[][] {{0, 0, 2}, {0, 1, 1}, {0, 2, 0}, {1, 0, 1}, {1, 1, 0}, {2, 0, 0}},
+                List.of(1, 2, 1, 2, 2, 1), integers), square);
+        assertArrayEquals(new int[] {2, 0, 0}, square.exponents(square.termCount() - 1));
+        assertEquals(ring.zero(), ring.sum(square, ring.negate(square)));
+
+        //test conversion from the nested representation, outermost variable first: (1 + 2y) + (3z^2)x
+        PolynomialRing<Integer> inner = PolynomialRing.instance(integers);
+        WorkingPolynomial<WorkingPolynomial<WorkingPolynomial<Integer>>> nested = WorkingPolynomial.from(List.of(
+                WorkingPolynomial.from(List.of(WorkingPolynomial.from(List.of(1)), WorkingPolynomial.from(List.of(2)))),
+                WorkingPolynomial.from(List.of(WorkingPolynomial.from(List.of(0, 0, 3))))));
+        MultivariatePolynomial<Integer> flat = ring.fromNested(nested);
+        assertEquals(ring.sum(ring.sum(ring.identity(), ring.product(MultivariatePolynomial.constant(3, 2, integers), y)),
+                ring.product(MultivariatePolynomial.constant(3, 3, integers), ring.product(x, ring.product(z, z)))), flat);
+        PolynomialRing<WorkingPolynomial<WorkingPolynomial<Integer>>> nestedRing = PolynomialRing.instance(PolynomialRing.instance(inner));
+        assertEquals(ring.fromNested(nestedRing.product(nested, nested)), ring.product(flat, flat));
+
+        //test unreduced residues of zero are dropped like zero itself: 14 + 3x mod 7 is 3x
+        ModularRing modular = new ModularRing(7);
+        MultivariatePolynomialRing<Long> modularRing = MultivariatePolynomialRing.instance(modular, 1);
+        MultivariatePolynomial<Long> residues = modularRing.fromNested(WorkingPolynomial.from(List.of(14L, 3L)));
+        assertEquals(1, residues.termCount());
+        assertEquals(modularRing.product(MultivariatePolynomial.constant(1, 3L, modular), modularRing.variable(0)), residues);
+
+        //test exponents must fit their fields, 21 bits for 3 variables
+        MultivariatePolynomial<Integer> high = MultivariatePolynomial.of(3, new int[][] {{1 << 20, 0, 0}}, List.of(1), integers);
+        assertThrows(ArithmeticException.class, () -> ring.product(high, high));
+        assertThrows(IllegalArgumentException.class, () -> MultivariatePolynomial.of(3, new int[][] {{1 << 21, 0, 0}}, List.of(1), integers));
+        assertThrows(IllegalArgumentException.class, () -> ring.sum(x, MultivariatePolynomial.variable(2, 0, integers)));
+    }
+
+    @Test
+    public void testDoubleRing() {
+        DoubleRing ring = new DoubleRing();
+        PolynomialRing<Double> polynomials = PolynomialRing.instance(ring);
+
+        //test small products take the schoolbook path: (1 + 2x)(3 - x) = 3 + 5x - 2x^2
+        doubleList = List.of(1.0, 2.0);
+        assertEquals(List.of(3.0, 5.0, -2.0),
+                polynomials.product(WorkingPolynomial.from(doubleList), WorkingPolynomial.from(List.of(3.0, -1.0))).getCoefficients());
+        assertEquals("double-schoolbook", ring.polynomialAlgorithm(2, 2));
+        assertEquals("fft", ring.polynomialAlgorithm(DoubleRing.FFT_THRESHOLD, 1000));
+
+        //test the FFT product of integer-valued operands rounds back to the exact product
+        int n = 3 * DoubleRing.FFT_THRESHOLD;
+        int[] a = new int[n];
+        int[] b = new int[n + 17];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = (i * 37) % 101 - 50;
+        }
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (i * 53) % 97 - 48;
+        }
+        int[] exact = IntPolynomial.of(a).times(IntPolynomial.of(b)).getCoefficients();
+        double[] product = DoubleRing.multiply(Arrays.stream(a).asDoubleStream().toArray(),
+                Arrays.stream(b).asDoubleStream().toArray());
+        assertEquals(exact.length, product.length);
+        for (int i = 0; i < exact.length; i++) {
+            assertEquals(exact[i], product[i], 1e-6);
+        }
+
+        //test the ring path agrees with the schoolbook and non-finite values stay local
+        List<Double> x = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            x.add(Math.sin(i));
+        }
+        WorkingPolynomial<Double> fft = polynomials.product(WorkingPolynomial.from(x), WorkingPolynomial.from(x));
+        WorkingPolynomial<Double> schoolbook = WorkingPolynomial.from(x).times(WorkingPolynomial.from(x), ring, Integer.MAX_VALUE);
+        for (int i = 0; i <= fft.degree(); i++) {
+            assertEquals(schoolbook.coefficient(i), fft.coefficient(i), 1e-10);
+        }
+        double[] infinite = new double[n];
+        infinite[5] = Double.POSITIVE_INFINITY;
+        double[] spread = DoubleRing.multiply(infinite, new double[] {1.0, 0.0});
+        assertEquals(0.0, spread[0], 0.0);
+        assertEquals(Double.POSITIVE_INFINITY, spread[5], 0.0);
+        assertThrows(ArithmeticException.class, () -> ring.inverse(0.0));
+
+        //test operands of far apart magnitudes neither overflow nor underflow: (1e200 * ones) * (1e-200 * ones)
+        double[] huge = new double[DoubleRing.FFT_THRESHOLD];
+        double[] tiny = new double[DoubleRing.FFT_THRESHOLD];
+        Arrays.fill(huge, 1e200);
+        Arrays.fill(tiny, 1e-200);
+        double[] balanced = DoubleRing.multiply(huge, tiny);
+        for (int k = 0; k < balanced.length; k++) {
+            double terms = Math.min(k, balanced.length - 1 - k) + 1;
+            assertEquals(terms, balanced[k], terms * 1e-12);
+        }
+
+        //test an empty operand gives n - 1 zeros, like every other ring, and -0.0 counts as zero
+        assertArrayEquals(new double[] {0.0, 0.0}, DoubleRing.multiply(new double[0], new double[] {1.0, 2.0, 3.0}), 0.0);
+        assertEquals(0, DoubleRing.multiply(new double[0], new double[0]).length);
+        assertEquals(List.of(0.0, 0.0), ring.polynomialProduct(WorkingPolynomial.from(new ArrayList<>()),
+                WorkingPolynomial.from(List.of(1.0, 2.0, 3.0))).getCoefficients());
+        assertTrue(ring.isZero(-0.0));
+        assertEquals(0, MultivariatePolynomial.constant(1, -0.0, ring).termCount());
+    }
+}